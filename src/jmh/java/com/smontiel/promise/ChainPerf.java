@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cost of {@code resolve(x).then(f).then(c)...done()} chains of the given depth, where every level
+ * is a then(Function) followed by a then(Consumer), against the same CompletableFuture pipeline.
+ * <p>
+ * gradlew jmh -Pjmh.include=ChainPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class ChainPerf {
+    static final Integer VALUE = 1;
+
+    @Param({ "1", "10", "100", "1000" })
+    public int depth;
+
+    Function<Integer, Integer> increment;
+
+    Consumer<Integer> consumer;
+
+    Function<Integer, Integer> peek;
+
+    Promise<Integer> chain;
+
+    @Setup
+    public void setup() {
+        increment = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer v) {
+                return v + 1;
+            }
+        };
+        consumer = new Consumer<Integer>() {
+            @Override
+            public void accept(Integer v) { }
+        };
+        peek = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer v) {
+                consumer.accept(v);
+                return v;
+            }
+        };
+        chain = assemble();
+    }
+
+    Promise<Integer> assemble() {
+        Promise<Integer> p = Promise.resolve(VALUE);
+        for (int i = 0; i < depth; i++) {
+            p = p.then(increment).then(consumer);
+        }
+        return p;
+    }
+
+    /** Subscribes to a pre-assembled chain. */
+    @Benchmark
+    public void subscribe(Blackhole bh) {
+        chain.subscribe(new PerfObserver(bh));
+    }
+
+    /** Assembles the chain and subscribes to it. */
+    @Benchmark
+    public void assembleAndSubscribe(Blackhole bh) {
+        assemble().subscribe(new PerfObserver(bh));
+    }
+
+    /** Assembles the chain and finishes it with done(). */
+    @Benchmark
+    public void assembleAndDone() {
+        assemble().done();
+    }
+
+    /**
+     * The same pipeline on CompletableFuture, which assembles and runs in one go;
+     * the consumer stage is a pass-through thenApply like then(Consumer).
+     */
+    @Benchmark
+    public Object completableFuture() {
+        CompletableFuture<Integer> f = CompletableFuture.completedFuture(VALUE);
+        for (int i = 0; i < depth; i++) {
+            f = f.thenApply(increment).thenApply(peek);
+        }
+        return f.join();
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cost of a single PromiseThen (then(Function)) and PromiseDoOnEach (then(Consumer), fail(Consumer))
+ * stage, pre-assembled and assembled per operation, next to the matching CompletableFuture stage.
+ * <p>
+ * gradlew jmh -Pjmh.include=OperatorPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class OperatorPerf {
+    static final Integer VALUE = 1;
+
+    static final IllegalStateException ERROR = new IllegalStateException();
+
+    Function<Integer, Integer> increment;
+
+    Consumer<Object> consumer;
+
+    Promise<Integer> thenFunction;
+
+    Promise<Integer> thenConsumer;
+
+    Promise<Integer> failConsumer;
+
+    @Setup
+    public void setup() {
+        increment = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer v) {
+                return v + 1;
+            }
+        };
+        consumer = new Consumer<Object>() {
+            @Override
+            public void accept(Object v) { }
+        };
+        thenFunction = Promise.resolve(VALUE).then(increment);
+        thenConsumer = Promise.resolve(VALUE).then(consumer);
+        failConsumer = Promise.<Integer>reject(ERROR).fail(consumer);
+    }
+
+    @Benchmark
+    public void thenFunction(Blackhole bh) {
+        thenFunction.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void thenFunctionAssembly(Blackhole bh) {
+        Promise.resolve(VALUE).then(increment).subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void thenConsumer(Blackhole bh) {
+        thenConsumer.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void thenConsumerAssembly(Blackhole bh) {
+        Promise.resolve(VALUE).then(consumer).subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void failConsumer(Blackhole bh) {
+        failConsumer.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public Object cfThenApply() {
+        return CompletableFuture.completedFuture(VALUE).thenApply(increment).join();
+    }
+
+    @Benchmark
+    public Object cfThenAccept() {
+        return CompletableFuture.completedFuture(VALUE).thenAccept(consumer).join();
+    }
+
+    @Benchmark
+    public Object cfExceptionally() {
+        CompletableFuture<Integer> f = new CompletableFuture<Integer>();
+        f.completeExceptionally(ERROR);
+        return f.whenComplete(new java.util.function.BiConsumer<Integer, Throwable>() {
+            @Override
+            public void accept(Integer v, Throwable e) {
+                consumer.accept(e);
+            }
+        }).isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.disposables.Disposable;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Observer that consumes the signals into a Blackhole and lets an asynchronous
+ * benchmark wait for the terminal signal.
+ */
+public final class PerfObserver implements Observer<Object> {
+    final Blackhole bh;
+
+    volatile boolean done;
+
+    public PerfObserver(Blackhole bh) {
+        this.bh = bh;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        bh.consume(d);
+    }
+
+    @Override
+    public void onComplete(Object value) {
+        bh.consume(value);
+        done = true;
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        bh.consume(e);
+        done = true;
+    }
+
+    /**
+     * Spins until the terminal signal arrives; used by benchmarks with asynchronous sources.
+     */
+    public void await() {
+        while (!done) { }
+    }
+}
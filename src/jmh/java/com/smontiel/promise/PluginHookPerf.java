@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cost of the plugin hook dispatch with no hook installed: assembling and subscribing ten stages
+ * on a non-constant source, each going through the assembly and subscribe hooks, and assembling
+ * {@code resolve(x)} alone.
+ * <p>
+ * gradlew jmh -Pjmh.include=PluginHookPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class PluginHookPerf {
+    static final Integer VALUE = 1;
+
+    Function<Integer, Integer> increment;
+
+    Consumer<Object> consumer;
+
+    Promise<Integer> source;
+
+    @Setup
+    public void setup() {
+        increment = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer v) {
+                return v + 1;
+            }
+        };
+        consumer = new Consumer<Object>() {
+            @Override
+            public void accept(Object v) { }
+        };
+        source = Promise.fromFuture(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public void assembleAndSubscribe(Blackhole bh) {
+        Promise<Integer> p = source;
+        for (int i = 0; i < 5; i++) {
+            p = p.then(increment).fail(consumer);
+        }
+        p.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public Object assembleResolve() {
+        return Promise.resolve(VALUE);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.disposables.Disposable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Cost of a numeric chain of the given depth carried as {@code Promise<Integer>}, boxing at every
+ * stage, against the same chain carried as an {@link IntPromise}. The values stay out of the
+ * Integer cache so that every box is an allocation; run with {@code -prof gc} to compare them.
+ * <p>
+ * gradlew jmh -Pjmh.include=PrimitivePerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class PrimitivePerf {
+    @Param({ "1", "10", "100" })
+    public int depth;
+
+    Promise<Integer> boxedChain;
+
+    IntPromise intChain;
+
+    @Setup
+    public void setup() {
+        Function<Integer, Integer> boxedIncrement = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer v) {
+                return v + 1;
+            }
+        };
+        IntUnaryOperator intIncrement = new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int v) {
+                return v + 1;
+            }
+        };
+        Promise<Integer> p = Promise.fromCallable(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return 1000;
+            }
+        }).cache();
+        p.blockingGet();
+
+        Promise<Integer> b = p;
+        for (int i = 0; i < depth; i++) {
+            b = b.then(boxedIncrement);
+        }
+        boxedChain = b;
+
+        IntPromise n = IntPromise.resolve(1000);
+        for (int i = 0; i < depth; i++) {
+            n = n.then(intIncrement);
+        }
+        intChain = n;
+    }
+
+    @Benchmark
+    public void boxed(Blackhole bh) {
+        boxedChain.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void primitive(final Blackhole bh) {
+        intChain.subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                bh.consume(d);
+            }
+
+            @Override
+            public void onComplete(int value) {
+                bh.consume(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                bh.consume(e);
+            }
+        });
+    }
+}
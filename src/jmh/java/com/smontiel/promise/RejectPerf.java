@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.exceptions.StacklessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of assembling and subscribing a rejection per operation: with a new regular exception,
+ * with a new StacklessException and with the instance shared by reject(Class, String).
+ * <p>
+ * gradlew jmh -Pjmh.include=RejectPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class RejectPerf {
+
+    public static final class CacheMiss extends StacklessException {
+
+        private static final long serialVersionUID = 1L;
+
+        public CacheMiss(String message) {
+            super(message);
+        }
+    }
+
+    @Benchmark
+    public void rejectNew(Blackhole bh) {
+        Promise.reject(new IllegalStateException("miss")).subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void rejectNewStackless(Blackhole bh) {
+        Promise.reject(new CacheMiss("miss")).subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void rejectShared(Blackhole bh) {
+        Promise.reject(CacheMiss.class, "miss").subscribe(new PerfObserver(bh));
+    }
+}
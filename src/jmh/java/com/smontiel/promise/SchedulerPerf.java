@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of handing a batch of tasks over to a Worker of the computation Scheduler (a lock-free queue
+ * drained through a ThreadPoolExecutor) and of the event-loop Scheduler, from several producer
+ * threads at once.
+ * <p>
+ * gradlew jmh -Pjmh.include=SchedulerPerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@Threads(4)
+@State(Scope.Thread)
+public class SchedulerPerf {
+    @Param({ "computation", "eventLoop" })
+    public String scheduler;
+
+    @Param({ "1000" })
+    public int tasks;
+
+    Scheduler.Worker worker;
+
+    @Setup
+    public void setup() {
+        Scheduler s = "eventLoop".equals(scheduler) ? Schedulers.eventLoop() : Schedulers.computation();
+        worker = s.createWorker();
+    }
+
+    @TearDown
+    public void teardown() {
+        worker.dispose();
+    }
+
+    @Benchmark
+    public void handOff() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        Runnable r = new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        };
+        for (int i = 0; i < tasks; i++) {
+            worker.schedule(r);
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of subscribing to each source: PromiseJust, PromiseError and PromiseFromCallable,
+ * next to the CompletableFuture that produces the same result.
+ * <p>
+ * gradlew jmh -Pjmh.include=SourcePerf
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class SourcePerf {
+    static final Integer VALUE = 1;
+
+    static final IllegalStateException ERROR = new IllegalStateException();
+
+    Promise<Integer> just;
+
+    Promise<Integer> error;
+
+    Promise<Integer> fromCallableTrampoline;
+
+    Promise<Integer> fromCallableIo;
+
+    Callable<Integer> callable;
+
+    Supplier<Integer> supplier;
+
+    @Setup
+    public void setup() {
+        callable = new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return VALUE;
+            }
+        };
+        supplier = new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return VALUE;
+            }
+        };
+        just = Promise.resolve(VALUE);
+        error = Promise.reject(ERROR);
+        fromCallableTrampoline = Promise.fromCallable(callable, Schedulers.trampoline());
+        fromCallableIo = Promise.fromCallable(callable, Schedulers.io());
+    }
+
+    @Benchmark
+    public void just(Blackhole bh) {
+        just.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void justAssembly(Blackhole bh) {
+        Promise.resolve(VALUE).subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void error(Blackhole bh) {
+        error.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void fromCallableTrampoline(Blackhole bh) {
+        fromCallableTrampoline.subscribe(new PerfObserver(bh));
+    }
+
+    @Benchmark
+    public void fromCallableIo(Blackhole bh) {
+        PerfObserver o = new PerfObserver(bh);
+        fromCallableIo.subscribe(o);
+        o.await();
+    }
+
+    @Benchmark
+    public Object cfCompleted() {
+        return CompletableFuture.completedFuture(VALUE).join();
+    }
+
+    @Benchmark
+    public Object cfFailed() {
+        CompletableFuture<Integer> f = new CompletableFuture<Integer>();
+        f.completeExceptionally(ERROR);
+        return f.isCompletedExceptionally();
+    }
+
+    @Benchmark
+    public Object cfSupplyAsync() {
+        return CompletableFuture.supplyAsync(supplier).join();
+    }
+}
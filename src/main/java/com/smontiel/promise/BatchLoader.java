@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.operators.PromiseBatchLoad;
+
+/**
+ * Coalesces the individual {@link #load(Object) loads} made within a short window into one call
+ * of a bulk batch function, created by {@link Promise#batching}.
+ * <p>
+ * A load is added to the current window when its Promise is subscribed to. A key loaded several
+ * times within a window is requested once, and its value is signalled to every subscriber.
+ * Values are not cached across windows: apply {@link Promise#cache()} to the loaded Promise for that.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @since 0.3
+ */
+public final class BatchLoader<K, V> {
+    final PromiseBatchLoad.Batcher<K, V> batcher;
+
+    BatchLoader(PromiseBatchLoad.Batcher<K, V> batcher) {
+        this.batcher = batcher;
+    }
+
+    /**
+     * Returns a Promise of the value of the given key, as returned by the batch function.
+     * <p>
+     * The Promise fails with a {@link java.util.NoSuchElementException NoSuchElementException} if the
+     * map returned by the batch function has no value for the key, and with the error of the batch
+     * function if it fails.
+     *
+     * @param key the key to load, not null
+     * @return the new Promise instance
+     */
+    public Promise<V> load(K key) {
+        ObjectHelper.requireNonNull(key, "key is null");
+        return PromisePlugins.onAssembly(new PromiseBatchLoad<K, V>(batcher, key));
+    }
+}
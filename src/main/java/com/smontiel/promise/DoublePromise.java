@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.operators.DoublePromiseJust;
+import com.smontiel.promise.internal.operators.DoublePromiseThen;
+import com.smontiel.promise.internal.operators.DoublePromiseToObj;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A Promise of a {@code double} value that is carried from stage to stage without boxing.
+ * <p>
+ * Obtain one with {@link #resolve(double)} or {@link Promise#thenToDouble(java.util.function.ToDoubleFunction)},
+ * and go back to a {@link Promise} with {@link #thenToObj(DoubleFunction)} or {@link #boxed()}.
+ * The assembly and subscribe hooks of {@link PromisePlugins} apply to Promises only and are not
+ * called for the stages of a DoublePromise.
+ *
+ * @since 0.3
+ */
+public abstract class DoublePromise {
+
+    /**
+     * Returns a DoublePromise that signals the given value when subscribed to.
+     *
+     * @param value the value to signal
+     * @return the new DoublePromise instance
+     */
+    public static DoublePromise resolve(double value) {
+        return new DoublePromiseJust(value);
+    }
+
+    /**
+     * Returns a DoublePromise that applies the given function to the value of this DoublePromise.
+     *
+     * @param onFulfilled the function to apply, not null
+     * @return the new DoublePromise instance
+     */
+    public final DoublePromise then(DoubleUnaryOperator onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new DoublePromiseThen(this, onFulfilled);
+    }
+
+    /**
+     * Returns a Promise that applies the given function to the value of this DoublePromise.
+     *
+     * @param <R> the output type
+     * @param onFulfilled the function to apply, not null
+     * @return the new Promise instance
+     */
+    public final <R> Promise<R> thenToObj(DoubleFunction<? extends R> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return PromisePlugins.onAssembly(new DoublePromiseToObj<R>(this, onFulfilled));
+    }
+
+    /**
+     * Returns a Promise that signals the value of this DoublePromise boxed into an {@code Double}.
+     *
+     * @return the new Promise instance
+     */
+    public final Promise<Double> boxed() {
+        return PromisePlugins.onAssembly(new DoublePromiseToObj<Double>(this, DoublePromiseToObj.BOXER));
+    }
+
+    /**
+     * Subscribes to this DoublePromise and waits in a blocking fashion until it settles, returning the value
+     * or throwing the error as-is (checked exceptions included).
+     * <p>
+     * The wait goes through {@link #boxed()}, so the value is boxed once, here.
+     *
+     * @return the value of this DoublePromise
+     */
+    public final double blockingGet() {
+        return boxed().blockingGet();
+    }
+
+    /**
+     * Subscribes the given DoubleObserver to this DoublePromise.
+     *
+     * @param observer the DoubleObserver, not null
+     */
+    public final void subscribe(DoubleObserver observer) {
+        ObjectHelper.requireNonNull(observer, "observer is null");
+        try {
+            subscribeActual(observer);
+        } catch (NullPointerException e) { // NOPMD
+            throw e;
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            PromisePlugins.onError(e);
+
+            NullPointerException npe = ExceptionHelper.nullPointer("Actually not, but can't throw other exceptions");
+            npe.initCause(e);
+            throw npe;
+        }
+    }
+
+    /**
+     * Operator implementations should implement this method that performs the necessary business logic.
+     * @param observer the incoming DoubleObserver, never null
+     */
+    protected abstract void subscribeActual(DoubleObserver observer);
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.operators.IntPromiseJust;
+import com.smontiel.promise.internal.operators.IntPromiseThen;
+import com.smontiel.promise.internal.operators.IntPromiseToObj;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A Promise of an {@code int} value that is carried from stage to stage without boxing.
+ * <p>
+ * Obtain one with {@link #resolve(int)} or {@link Promise#thenToInt(java.util.function.ToIntFunction)},
+ * and go back to a {@link Promise} with {@link #thenToObj(IntFunction)} or {@link #boxed()}.
+ * The assembly and subscribe hooks of {@link PromisePlugins} apply to Promises only and are not
+ * called for the stages of an IntPromise.
+ *
+ * @since 0.3
+ */
+public abstract class IntPromise {
+
+    /**
+     * Returns an IntPromise that signals the given value when subscribed to.
+     *
+     * @param value the value to signal
+     * @return the new IntPromise instance
+     */
+    public static IntPromise resolve(int value) {
+        return new IntPromiseJust(value);
+    }
+
+    /**
+     * Returns an IntPromise that applies the given function to the value of this IntPromise.
+     *
+     * @param onFulfilled the function to apply, not null
+     * @return the new IntPromise instance
+     */
+    public final IntPromise then(IntUnaryOperator onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new IntPromiseThen(this, onFulfilled);
+    }
+
+    /**
+     * Returns a Promise that applies the given function to the value of this IntPromise.
+     *
+     * @param <R> the output type
+     * @param onFulfilled the function to apply, not null
+     * @return the new Promise instance
+     */
+    public final <R> Promise<R> thenToObj(IntFunction<? extends R> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return PromisePlugins.onAssembly(new IntPromiseToObj<R>(this, onFulfilled));
+    }
+
+    /**
+     * Returns a Promise that signals the value of this IntPromise boxed into an {@code Integer}.
+     *
+     * @return the new Promise instance
+     */
+    public final Promise<Integer> boxed() {
+        return PromisePlugins.onAssembly(new IntPromiseToObj<Integer>(this, IntPromiseToObj.BOXER));
+    }
+
+    /**
+     * Subscribes to this IntPromise and waits in a blocking fashion until it settles, returning the value
+     * or throwing the error as-is (checked exceptions included).
+     * <p>
+     * The wait goes through {@link #boxed()}, so the value is boxed once, here.
+     *
+     * @return the value of this IntPromise
+     */
+    public final int blockingGet() {
+        return boxed().blockingGet();
+    }
+
+    /**
+     * Subscribes the given IntObserver to this IntPromise.
+     *
+     * @param observer the IntObserver, not null
+     */
+    public final void subscribe(IntObserver observer) {
+        ObjectHelper.requireNonNull(observer, "observer is null");
+        try {
+            subscribeActual(observer);
+        } catch (NullPointerException e) { // NOPMD
+            throw e;
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            PromisePlugins.onError(e);
+
+            NullPointerException npe = ExceptionHelper.nullPointer("Actually not, but can't throw other exceptions");
+            npe.initCause(e);
+            throw npe;
+        }
+    }
+
+    /**
+     * Operator implementations should implement this method that performs the necessary business logic.
+     * @param observer the incoming IntObserver, never null
+     */
+    protected abstract void subscribeActual(IntObserver observer);
+}
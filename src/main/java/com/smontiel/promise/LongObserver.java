@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.disposables.Disposable;
+
+/**
+ * Provides a mechanism for receiving the {@code long} value of an {@link LongPromise} without boxing it.
+ * <p>
+ * The same protocol as {@link Observer} applies: {@link #onSubscribe} exactly once, followed by either
+ * {@link #onComplete} or {@link #onError} exactly once.
+ *
+ * @since 0.3
+ */
+public interface LongObserver {
+
+    /**
+     * Provides the LongObserver with the means of cancelling (disposing) the
+     * connection with the {@link LongPromise}.
+     *
+     * @param d
+     *          the Disposable instance whose {@link Disposable#dispose()} can
+     *          be called anytime to cancel the connection
+     */
+    void onSubscribe(Disposable d);
+
+    /**
+     * Provides the LongObserver with the value of the {@link LongPromise}.
+     *
+     * @param value
+     *          the value emitted by the LongPromise
+     */
+    void onComplete(long value);
+
+    /**
+     * Notifies the LongObserver that the {@link LongPromise} has experienced an error condition.
+     *
+     * @param e
+     *          the exception encountered by the LongPromise
+     */
+    void onError(Throwable e);
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.operators.LongPromiseJust;
+import com.smontiel.promise.internal.operators.LongPromiseThen;
+import com.smontiel.promise.internal.operators.LongPromiseToObj;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A Promise of a {@code long} value that is carried from stage to stage without boxing.
+ * <p>
+ * Obtain one with {@link #resolve(long)} or {@link Promise#thenToLong(java.util.function.ToLongFunction)},
+ * and go back to a {@link Promise} with {@link #thenToObj(LongFunction)} or {@link #boxed()}.
+ * The assembly and subscribe hooks of {@link PromisePlugins} apply to Promises only and are not
+ * called for the stages of a LongPromise.
+ *
+ * @since 0.3
+ */
+public abstract class LongPromise {
+
+    /**
+     * Returns a LongPromise that signals the given value when subscribed to.
+     *
+     * @param value the value to signal
+     * @return the new LongPromise instance
+     */
+    public static LongPromise resolve(long value) {
+        return new LongPromiseJust(value);
+    }
+
+    /**
+     * Returns a LongPromise that applies the given function to the value of this LongPromise.
+     *
+     * @param onFulfilled the function to apply, not null
+     * @return the new LongPromise instance
+     */
+    public final LongPromise then(LongUnaryOperator onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new LongPromiseThen(this, onFulfilled);
+    }
+
+    /**
+     * Returns a Promise that applies the given function to the value of this LongPromise.
+     *
+     * @param <R> the output type
+     * @param onFulfilled the function to apply, not null
+     * @return the new Promise instance
+     */
+    public final <R> Promise<R> thenToObj(LongFunction<? extends R> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return PromisePlugins.onAssembly(new LongPromiseToObj<R>(this, onFulfilled));
+    }
+
+    /**
+     * Returns a Promise that signals the value of this LongPromise boxed into an {@code Long}.
+     *
+     * @return the new Promise instance
+     */
+    public final Promise<Long> boxed() {
+        return PromisePlugins.onAssembly(new LongPromiseToObj<Long>(this, LongPromiseToObj.BOXER));
+    }
+
+    /**
+     * Subscribes to this LongPromise and waits in a blocking fashion until it settles, returning the value
+     * or throwing the error as-is (checked exceptions included).
+     * <p>
+     * The wait goes through {@link #boxed()}, so the value is boxed once, here.
+     *
+     * @return the value of this LongPromise
+     */
+    public final long blockingGet() {
+        return boxed().blockingGet();
+    }
+
+    /**
+     * Subscribes the given LongObserver to this LongPromise.
+     *
+     * @param observer the LongObserver, not null
+     */
+    public final void subscribe(LongObserver observer) {
+        ObjectHelper.requireNonNull(observer, "observer is null");
+        try {
+            subscribeActual(observer);
+        } catch (NullPointerException e) { // NOPMD
+            throw e;
+        } catch (Throwable e) {
+            Exceptions.throwIfFatal(e);
+            PromisePlugins.onError(e);
+
+            NullPointerException npe = ExceptionHelper.nullPointer("Actually not, but can't throw other exceptions");
+            npe.initCause(e);
+            throw npe;
+        }
+    }
+
+    /**
+     * Operator implementations should implement this method that performs the necessary business logic.
+     * @param observer the incoming LongObserver, never null
+     */
+    protected abstract void subscribeActual(LongObserver observer);
+}
@@ -1,11 +1,14 @@
 package com.smontiel.promise;
 
+import com.smontiel.promise.disposables.Disposable;
+
 /**
  * Provides a mechanism for receiving push-based notifications.
  * <p>
  * A well-behaved
- * {@code Promise} will call an Observer's {@link #onComplete} method exactly once or the Observer's
- * {@link #onError} method exactly once.
+ * {@code Promise} will call an Observer's {@link #onSubscribe} method exactly once, followed by either
+ * the Observer's {@link #onComplete} method exactly once or the Observer's {@link #onError} method
+ * exactly once.
  *
  * @param <T>
  *          the type of item the Observer expects to observe
@@ -13,6 +16,25 @@ package com.smontiel.promise;
  */
 public interface Observer<T> {
 
+    /**
+     * Provides the Observer with the means of cancelling (disposing) the
+     * connection with the {@link Promise} in both
+     * synchronous (from within {@code onSubscribe} itself) and asynchronous manner.
+     * <p>
+     * Disposing tells the upstream the value is no longer needed: pending work is skipped
+     * or interrupted and no further signal is delivered.
+     * <p>
+     * The default implementation ignores the Disposable, so Observers written before this
+     * method existed keep compiling and simply can't cancel.
+     *
+     * @param d
+     *          the Disposable instance whose {@link Disposable#dispose()} can
+     *          be called anytime to cancel the connection
+     * @since 0.3
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
     /**
      * Provides the Observer with a new item to observe.
      * <p>
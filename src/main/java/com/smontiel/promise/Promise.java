@@ -1,14 +1,39 @@
 package com.smontiel.promise;
 
+import com.smontiel.promise.disposables.Disposable;
 import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.exceptions.StacklessException;
+import com.smontiel.promise.functions.*;
+import com.smontiel.promise.internal.ExceptionHelper;
 import com.smontiel.promise.internal.Functions;
 import com.smontiel.promise.internal.ObjectHelper;
 import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.fuseable.ScalarCallable;
+import com.smontiel.promise.internal.observers.BlockingObserver;
+import com.smontiel.promise.internal.observers.CompletableFutureObserver;
+import com.smontiel.promise.internal.observers.ConsumerObserver;
 import com.smontiel.promise.internal.operators.*;
+import com.smontiel.promise.internal.schedulers.ComputationPool;
+import com.smontiel.promise.schedulers.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Created by Salvador Montiel on 02/enero/2018.
@@ -47,7 +72,33 @@ public abstract class Promise<T> implements PromiseSource<T> {
      */
     public static <T> Promise<T> reject(final Throwable exception) {
         ObjectHelper.requireNonNull(exception, "e is null");
-        return reject(Functions.justCallable(exception));
+        return PromisePlugins.onAssembly(new PromiseError<T>(exception));
+    }
+
+    /**
+     * Returns a Promise that fails with an instance of the given {@link StacklessException} type, created
+     * with the given message.
+     * <p>
+     * Meant for expected failures such as cache misses: the instance is created once and reused by
+     * every Promise returned for the same type and message (up to 64 messages per type), so neither
+     * a stack walk nor an allocation is paid per rejection. The message should therefore be one of a
+     * few constants rather than carry per-call details. Types loaded by a ClassLoader other than the
+     * library's or one of its parents are not cached, so that they can still be unloaded.
+     *
+     * @param type
+     *            the StacklessException type, with a public constructor taking the message
+     * @param message
+     *            the message of the exception
+     * @param <T>
+     *            the type of the items (ostensibly) emitted by the PromiseSource
+     * @return the Promise failing with the shared instance
+     * @throws IllegalArgumentException if {@code type} has no public constructor taking the message
+     * @since 0.3
+     */
+    public static <T> Promise<T> reject(Class<? extends StacklessException> type, String message) {
+        ObjectHelper.requireNonNull(type, "type is null");
+        ObjectHelper.requireNonNull(message, "message is null");
+        return PromisePlugins.onAssembly(PromiseError.<T>stackless(type, message));
     }
 
     /**
@@ -74,6 +125,9 @@ public abstract class Promise<T> implements PromiseSource<T> {
      * This allows you to defer the execution of the function you specify until an observer subscribes to the
      * PromiseSource. That is to say, it makes the function "lazy."
      *
+     * <p>
+     * The function is invoked on the shared {@link Schedulers#io()} Scheduler.
+     *
      * @param supplier
      *         a function, the execution of which should be deferred; {@code fromCallable} will invoke this
      *         function only when an observer subscribes to the PromiseSource that {@code fromCallable} returns
@@ -83,8 +137,664 @@ public abstract class Promise<T> implements PromiseSource<T> {
      * @since 0.1
      */
     public static <T> Promise<T> fromCallable(Callable<T> supplier) {
+        return fromCallable(supplier, Schedulers.io());
+    }
+
+    /**
+     * Returns a Promise that, when an observer subscribes to it, invokes a function you specify on the
+     * given {@link Scheduler} and then emits the value returned from that function.
+     *
+     * @param supplier
+     *         a function, the execution of which should be deferred; {@code fromCallable} will invoke this
+     *         function only when an observer subscribes to the PromiseSource that {@code fromCallable} returns
+     * @param scheduler
+     *         the Scheduler to invoke the function on
+     * @param <T>
+     *         the type of the item emitted by the PromiseSource
+     * @return a Promise whose {@link Observer}s' subscriptions trigger an invocation of the given function
+     * @since 0.3
+     */
+    public static <T> Promise<T> fromCallable(Callable<T> supplier, Scheduler scheduler) {
         ObjectHelper.requireNonNull(supplier, "supplier is null");
-        return PromisePlugins.onAssembly(new PromiseFromCallable<T>(supplier));
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return PromisePlugins.onAssembly(new PromiseFromCallable<T>(supplier, scheduler));
+    }
+
+    /**
+     * Returns a Promise that signals the outcome of the given {@link CompletionStage}.
+     * <p>
+     * The Observer is signalled from the stage's own completion callback, on the thread that completes
+     * the stage (or right away if it already completed); no thread waits for the stage. A
+     * {@link java.util.concurrent.CompletionException CompletionException} is unwrapped to its cause.
+     *
+     * @param stage
+     *         the CompletionStage to convert
+     * @param <T>
+     *         the type of the item emitted by the PromiseSource
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static <T> Promise<T> fromFuture(CompletionStage<T> stage) {
+        ObjectHelper.requireNonNull(stage, "stage is null");
+        return PromisePlugins.onAssembly(new PromiseFromCompletionStage<T>(stage));
+    }
+
+    /**
+     * Returns a Promise that succeeds with {@code 0L} after the given delay, on the
+     * {@link Schedulers#computation() computation} Scheduler.
+     * <p>
+     * No thread sleeps while waiting: the delay is kept by a shared hashed-wheel timer, with a precision
+     * of one tick (10 milliseconds by default).
+     *
+     * @param delay
+     *            the delay before signalling
+     * @param unit
+     *            the time unit of {@code delay}
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static Promise<Long> timer(long delay, TimeUnit unit) {
+        return timer(delay, unit, Schedulers.computation());
+    }
+
+    /**
+     * Returns a Promise that succeeds with {@code 0L} after the given delay, on the given Scheduler.
+     * <p>
+     * No thread sleeps while waiting: the delay is kept by a shared hashed-wheel timer, with a precision
+     * of one tick (10 milliseconds by default).
+     *
+     * @param delay
+     *            the delay before signalling
+     * @param unit
+     *            the time unit of {@code delay}
+     * @param scheduler
+     *            the {@link Scheduler} to signal on
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static Promise<Long> timer(long delay, TimeUnit unit, Scheduler scheduler) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return PromisePlugins.onAssembly(new PromiseTimer(delay, unit, scheduler));
+    }
+
+    /**
+     * Returns a {@link BatchLoader} that coalesces the keys loaded within a window of one timer tick
+     * (10 milliseconds by default), or up to 1000 distinct keys, into one call of the given batch function.
+     *
+     * @param batchFunction
+     *            the function returning the values of a set of keys at once
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @return the new BatchLoader instance
+     * @see #batching(Function, long, TimeUnit, int)
+     * @since 0.3
+     */
+    public static <K, V> BatchLoader<K, V> batching(Function<? super Set<K>, ? extends PromiseSource<? extends Map<K, ? extends V>>> batchFunction) {
+        return batching(batchFunction, 10L, TimeUnit.MILLISECONDS, 1000);
+    }
+
+    /**
+     * Returns a {@link BatchLoader} that coalesces the keys loaded within the given window into one call
+     * of the given batch function.
+     * <p>
+     * The window opens with the first load after the previous window was dispatched. It is dispatched
+     * once it holds {@code maxBatchSize} distinct keys, on the thread making that load, or once the
+     * window elapsed, on the {@link Schedulers#computation() computation} Scheduler. The window is kept by
+     * a shared hashed-wheel timer, with a precision of one tick (10 milliseconds by default); a zero
+     * window is dispatched as soon as the Scheduler gets to it, collecting the loads made until then.
+     *
+     * @param batchFunction
+     *            the function returning the values of a set of keys at once
+     * @param window
+     *            the time to collect keys for, counted from the first load of the window
+     * @param unit
+     *            the time unit of {@code window}
+     * @param maxBatchSize
+     *            the maximum number of distinct keys handed to one call of {@code batchFunction}
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @return the new BatchLoader instance
+     * @throws IllegalArgumentException if {@code window} is negative or {@code maxBatchSize} is not positive
+     * @since 0.3
+     */
+    public static <K, V> BatchLoader<K, V> batching(Function<? super Set<K>, ? extends PromiseSource<? extends Map<K, ? extends V>>> batchFunction,
+            long window, TimeUnit unit, int maxBatchSize) {
+        ObjectHelper.requireNonNull(batchFunction, "batchFunction is null");
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        if (window < 0L) {
+            throw new IllegalArgumentException("window >= 0 required but it was " + window);
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize > 0 required but it was " + maxBatchSize);
+        }
+        return new BatchLoader<K, V>(new PromiseBatchLoad.Batcher<K, V>(batchFunction, window, unit, maxBatchSize,
+                Schedulers.computation()));
+    }
+
+    /**
+     * Returns a Promise that applies the given function to every item of the List, in parallel on the
+     * work-stealing pool of {@link Schedulers#computation()}, and succeeds with the results in item order.
+     * <p>
+     * The items are copied when the Promise is subscribed to and split recursively into at most
+     * {@code parallelism} ranges of consecutive items, each run as one ForkJoin task. The results are
+     * written into one presized array, signalled as a fixed-size List once every range is
+     * done. The first error of the function stops the ranges not yet done and fails the Promise.
+     *
+     * @param items
+     *            the items to map
+     * @param mapper
+     *            the function to apply to each item, called concurrently from several threads
+     * @param parallelism
+     *            the maximum number of ranges mapped at once
+     * @param <T>
+     *            the item type
+     * @param <R>
+     *            the result type
+     * @return the new Promise instance
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @since 0.3
+     */
+    public static <T, R> Promise<List<R>> parallelMap(List<? extends T> items, Function<? super T, ? extends R> mapper, int parallelism) {
+        ObjectHelper.requireNonNull(items, "items is null");
+        ObjectHelper.requireNonNull(mapper, "mapper is null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        return PromisePlugins.onAssembly(new PromiseParallelMap<T, R>(items, mapper, parallelism, ComputationPool.instance()));
+    }
+
+    /**
+     * Returns a Promise that reduces the items of the List in parallel on the
+     * work-stealing pool of {@link Schedulers#computation()} and succeeds with the result.
+     * <p>
+     * The items are copied when the Promise is subscribed to and split recursively into at most
+     * {@code parallelism} ranges of consecutive items. Each range is folded with the accumulator,
+     * starting from the identity, and the results of adjacent ranges are merged with the combiner,
+     * so the combiner has to be associative and the identity neutral for it. An empty List
+     * results in the identity.
+     *
+     * @param items
+     *            the items to reduce
+     * @param identity
+     *            the initial value of every range
+     * @param accumulator
+     *            the function folding an item into the result of its range
+     * @param combiner
+     *            the function merging the results of two adjacent ranges
+     * @param parallelism
+     *            the maximum number of ranges reduced at once
+     * @param <T>
+     *            the item type
+     * @param <R>
+     *            the result type
+     * @return the new Promise instance
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @since 0.3
+     */
+    public static <T, R> Promise<R> parallelReduce(List<? extends T> items, R identity, BiFunction<R, ? super T, R> accumulator,
+            BinaryOperator<R> combiner, int parallelism) {
+        ObjectHelper.requireNonNull(items, "items is null");
+        ObjectHelper.requireNonNull(identity, "identity is null");
+        ObjectHelper.requireNonNull(accumulator, "accumulator is null");
+        ObjectHelper.requireNonNull(combiner, "combiner is null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        return PromisePlugins.onAssembly(new PromiseParallelReduce<T, R>(items, identity, accumulator, combiner, parallelism,
+                ComputationPool.instance()));
+    }
+
+    /**
+     * Returns a Promise that succeeds with the values of all the given sources, in iteration order,
+     * once every one of them succeeded, or fails with the first error signalled by any of them.
+     * <p>
+     * An empty Iterable results in an empty List.
+     *
+     * @param sources
+     *         the sources to wait for
+     * @param <T>
+     *         the common value type of the sources
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static <T> Promise<List<T>> all(Iterable<? extends PromiseSource<? extends T>> sources) {
+        PromiseSource<? extends T>[] array = toArray(sources);
+        if (array.length == 0) {
+            return resolve(Collections.<T>emptyList());
+        }
+        return zipArray(Functions.<T>arrayToList(), array);
+    }
+
+    /**
+     * Returns a Promise that settles like the first of the given sources to settle, with its value
+     * or its error, and disposes the other sources at that point.
+     * <p>
+     * Disposing a source stops its pending work; in particular the task of a
+     * {@link #fromCallable(Callable) fromCallable} source that is still running gets interrupted.
+     * An empty Iterable results in a {@link NoSuchElementException}.
+     *
+     * @param sources
+     *         the sources to race
+     * @param <T>
+     *         the common value type of the sources
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static <T> Promise<T> race(Iterable<? extends PromiseSource<? extends T>> sources) {
+        PromiseSource<? extends T>[] array = toArray(sources);
+        if (array.length == 0) {
+            return reject(new NoSuchElementException("sources is empty"));
+        }
+        return PromisePlugins.onAssembly(new PromiseRace<T>(array));
+    }
+
+    /**
+     * Returns a Promise that succeeds with the value of the first of the given sources to succeed
+     * and disposes the other sources at that point, or fails with a
+     * {@link com.smontiel.promise.exceptions.CompositeException CompositeException} holding the errors
+     * of all the sources, in iteration order, if every one of them failed.
+     * <p>
+     * An empty Iterable results in a {@link NoSuchElementException}.
+     *
+     * @param sources
+     *         the sources to wait for
+     * @param <T>
+     *         the common value type of the sources
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public static <T> Promise<T> any(Iterable<? extends PromiseSource<? extends T>> sources) {
+        PromiseSource<? extends T>[] array = toArray(sources);
+        if (array.length == 0) {
+            return reject(new NoSuchElementException("sources is empty"));
+        }
+        return PromisePlugins.onAssembly(new PromiseAny<T>(array));
+    }
+
+    static <T> PromiseSource<? extends T>[] toArray(Iterable<? extends PromiseSource<? extends T>> sources) {
+        ObjectHelper.requireNonNull(sources, "sources is null");
+        List<PromiseSource<? extends T>> list = new ArrayList<PromiseSource<? extends T>>();
+        for (PromiseSource<? extends T> source : sources) {
+            list.add(ObjectHelper.requireNonNull(source, "One of the sources is null"));
+        }
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        PromiseSource<? extends T>[] array = list.toArray(new PromiseSource[list.size()]);
+        return array;
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 2 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            BiFunction<? super T1, ? super T2, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 3 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 4 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 5 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param source5
+     *            the fifth source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <T5> the fifth source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            PromiseSource<? extends T5> source5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        ObjectHelper.requireNonNull(source5, "source5 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4, source5);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 6 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param source5
+     *            the fifth source Promise
+     * @param source6
+     *            the sixth source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <T5> the fifth source Promise's value type
+     * @param <T6> the sixth source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            PromiseSource<? extends T5> source5,
+            PromiseSource<? extends T6> source6,
+            Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        ObjectHelper.requireNonNull(source5, "source5 is null");
+        ObjectHelper.requireNonNull(source6, "source6 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4, source5, source6);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 7 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param source5
+     *            the fifth source Promise
+     * @param source6
+     *            the sixth source Promise
+     * @param source7
+     *            the seventh source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <T5> the fifth source Promise's value type
+     * @param <T6> the sixth source Promise's value type
+     * @param <T7> the seventh source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, T7, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            PromiseSource<? extends T5> source5,
+            PromiseSource<? extends T6> source6,
+            PromiseSource<? extends T7> source7,
+            Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        ObjectHelper.requireNonNull(source5, "source5 is null");
+        ObjectHelper.requireNonNull(source6, "source6 is null");
+        ObjectHelper.requireNonNull(source7, "source7 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4, source5, source6, source7);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 8 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param source5
+     *            the fifth source Promise
+     * @param source6
+     *            the sixth source Promise
+     * @param source7
+     *            the seventh source Promise
+     * @param source8
+     *            the eighth source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <T5> the fifth source Promise's value type
+     * @param <T6> the sixth source Promise's value type
+     * @param <T7> the seventh source Promise's value type
+     * @param <T8> the eighth source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            PromiseSource<? extends T5> source5,
+            PromiseSource<? extends T6> source6,
+            PromiseSource<? extends T7> source7,
+            PromiseSource<? extends T8> source8,
+            Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        ObjectHelper.requireNonNull(source5, "source5 is null");
+        ObjectHelper.requireNonNull(source6, "source6 is null");
+        ObjectHelper.requireNonNull(source7, "source7 is null");
+        ObjectHelper.requireNonNull(source8, "source8 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4, source5, source6, source7, source8);
+    }
+
+    /**
+     * Returns a Promise that succeeds with the result of the zipper function applied to the values of
+     * the 9 given sources once all of them succeeded, or fails with the first error signalled by any of them.
+     *
+     * @param source1
+     *            the first source Promise
+     * @param source2
+     *            the second source Promise
+     * @param source3
+     *            the third source Promise
+     * @param source4
+     *            the fourth source Promise
+     * @param source5
+     *            the fifth source Promise
+     * @param source6
+     *            the sixth source Promise
+     * @param source7
+     *            the seventh source Promise
+     * @param source8
+     *            the eighth source Promise
+     * @param source9
+     *            the ninth source Promise
+     * @param zipper
+     *            a function that, when applied to the values of the sources, results in
+     *            the value emitted by the resulting Promise
+     * @param <T1> the first source Promise's value type
+     * @param <T2> the second source Promise's value type
+     * @param <T3> the third source Promise's value type
+     * @param <T4> the fourth source Promise's value type
+     * @param <T5> the fifth source Promise's value type
+     * @param <T6> the sixth source Promise's value type
+     * @param <T7> the seventh source Promise's value type
+     * @param <T8> the eighth source Promise's value type
+     * @param <T9> the ninth source Promise's value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> Promise<R> zip(
+            PromiseSource<? extends T1> source1,
+            PromiseSource<? extends T2> source2,
+            PromiseSource<? extends T3> source3,
+            PromiseSource<? extends T4> source4,
+            PromiseSource<? extends T5> source5,
+            PromiseSource<? extends T6> source6,
+            PromiseSource<? extends T7> source7,
+            PromiseSource<? extends T8> source8,
+            PromiseSource<? extends T9> source9,
+            Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> zipper) {
+        ObjectHelper.requireNonNull(source1, "source1 is null");
+        ObjectHelper.requireNonNull(source2, "source2 is null");
+        ObjectHelper.requireNonNull(source3, "source3 is null");
+        ObjectHelper.requireNonNull(source4, "source4 is null");
+        ObjectHelper.requireNonNull(source5, "source5 is null");
+        ObjectHelper.requireNonNull(source6, "source6 is null");
+        ObjectHelper.requireNonNull(source7, "source7 is null");
+        ObjectHelper.requireNonNull(source8, "source8 is null");
+        ObjectHelper.requireNonNull(source9, "source9 is null");
+        return zipArray(Functions.toFunction(zipper), source1, source2, source3, source4, source5, source6, source7, source8, source9);
+    }
+
+    /**
+     * Waits until all the sources succeed and combines their values into one using the zipper.
+     *
+     * @param zipper the function receiving the values, in the order of the sources
+     * @param sources the sources to wait for
+     * @param <T> the common value type
+     * @param <R> the result type
+     * @return the new Promise instance
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Promise<R> zipArray(Function<? super Object[], ? extends R> zipper, PromiseSource<? extends T>... sources) {
+        return PromisePlugins.onAssembly(new PromiseZipArray<T, R>(sources, zipper));
     }
 
     /**
@@ -96,8 +806,12 @@ public abstract class Promise<T> implements PromiseSource<T> {
      * @return the source PromiseSource with the side-effecting behavior applied
      * @since 0.1
      */
+    @SuppressWarnings("unchecked")
     public final Promise<T> then(Consumer<? super T> onFulfilled) {
         ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        if (this instanceof ScalarCallable) {
+            return PromiseScalarThen.fuse((ScalarCallable<T>)this, Functions.peek(onFulfilled));
+        }
         return PromisePlugins.onAssembly(new PromiseDoOnEach<T>(this, onFulfilled, Functions.emptyConsumer(), Functions.EMPTY_RUNNABLE));
     }
 
@@ -118,11 +832,57 @@ public abstract class Promise<T> implements PromiseSource<T> {
      *         function
      * @since 0.1
      */
+    @SuppressWarnings("unchecked")
     public final <R> Promise<R> then(Function<? super T, ? extends R> onFulfilled) {
         ObjectHelper.requireNonNull(onFulfilled, "onFulfilledMapper is null");
+        if (this instanceof ScalarCallable) {
+            return PromiseScalarThen.fuse((ScalarCallable<T>)this, onFulfilled);
+        }
         return PromisePlugins.onAssembly(new PromiseThen<T, R>(this, onFulfilled));
     }
 
+    /**
+     * Returns an {@link IntPromise} that applies the given function to the value of this Promise,
+     * so the following stages can carry the {@code int} result without boxing it.
+     *
+     * @param onFulfilled
+     *            the function to apply to the value
+     * @return the new IntPromise instance
+     * @since 0.3
+     */
+    public final IntPromise thenToInt(ToIntFunction<? super T> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new PromiseThenToInt<T>(this, onFulfilled);
+    }
+
+    /**
+     * Returns a {@link LongPromise} that applies the given function to the value of this Promise,
+     * so the following stages can carry the {@code long} result without boxing it.
+     *
+     * @param onFulfilled
+     *            the function to apply to the value
+     * @return the new LongPromise instance
+     * @since 0.3
+     */
+    public final LongPromise thenToLong(ToLongFunction<? super T> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new PromiseThenToLong<T>(this, onFulfilled);
+    }
+
+    /**
+     * Returns a {@link DoublePromise} that applies the given function to the value of this Promise,
+     * so the following stages can carry the {@code double} result without boxing it.
+     *
+     * @param onFulfilled
+     *            the function to apply to the value
+     * @return the new DoublePromise instance
+     * @since 0.3
+     */
+    public final DoublePromise thenToDouble(ToDoubleFunction<? super T> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return new PromiseThenToDouble<T>(this, onFulfilled);
+    }
+
     /**
      * Returns a Promise that calls the appropriate onError consumer (shared between all subscribers) whenever a signal with the same type
      * passes through, before forwarding them to downstream.
@@ -138,6 +898,340 @@ public abstract class Promise<T> implements PromiseSource<T> {
         return PromisePlugins.onAssembly(new PromiseDoOnEach<T>(this, Functions.emptyConsumer(), onRejected, Functions.EMPTY_RUNNABLE));
     }
 
+    /**
+     * Returns a Promise that applies the given function to the value of this Promise and then settles
+     * like the PromiseSource returned by the function.
+     * <p>
+     * The returned source is subscribed to on the thread that delivered the value, with no Scheduler
+     * in between.
+     *
+     * @param <R> the result value type
+     * @param onFulfilled
+     *            a function that returns the PromiseSource to continue with for the value of this Promise
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final <R> Promise<R> thenCompose(Function<? super T, ? extends PromiseSource<? extends R>> onFulfilled) {
+        ObjectHelper.requireNonNull(onFulfilled, "onFulfilled is null");
+        return PromisePlugins.onAssembly(new PromiseThenCompose<T, R>(this, onFulfilled));
+    }
+
+    /**
+     * Returns a Promise that, if this Promise fails, applies the given function to the error and then
+     * settles like the PromiseSource returned by the function.
+     * <p>
+     * The returned source is subscribed to on the thread that delivered the error, with no Scheduler
+     * in between.
+     *
+     * @param onRejected
+     *            a function that returns the PromiseSource to continue with for the error of this Promise
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> failCompose(Function<? super Throwable, ? extends PromiseSource<? extends T>> onRejected) {
+        ObjectHelper.requireNonNull(onRejected, "onRejected is null");
+        return PromisePlugins.onAssembly(new PromiseFailCompose<T>(this, onRejected));
+    }
+
+    /**
+     * Returns a Promise that subscribes to this Promise only once, when the first Observer subscribes,
+     * and replays the settled value or error to every Observer, current and future.
+     * <p>
+     * This gives the settle-once semantics of Promises/A+: a {@link #fromCallable(Callable) fromCallable}
+     * source runs its function only once no matter how many Observers subscribe to the cached Promise.
+     *
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> cache() {
+        if (this instanceof PromiseJust) {
+            return this;
+        }
+        return PromisePlugins.onAssembly(new PromiseCache<T>(this));
+    }
+
+    /**
+     * Asynchronously subscribes Observers to this Promise on the specified {@link Scheduler}.
+     *
+     * @param scheduler
+     *            the {@link Scheduler} to perform subscription actions on
+     * @return the source Promise modified so that its subscriptions happen on the
+     *         specified {@link Scheduler}
+     * @since 0.3
+     */
+    public final Promise<T> subscribeOn(Scheduler scheduler) {
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return PromisePlugins.onAssembly(new PromiseSubscribeOn<T>(this, scheduler));
+    }
+
+    /**
+     * Returns a Promise that signals the value or error of this Promise on the specified {@link Scheduler},
+     * so that the callbacks registered downstream run there instead of on the thread that settled this Promise.
+     * <p>
+     * A signal that already arrives on one of the Scheduler's threads is delivered right away. Other signals
+     * are queued on the Scheduler's {@link Scheduler#sharedWorker() shared Workers}, so that those settling
+     * together are delivered in batches rather than with one executor task each.
+     *
+     * @param scheduler
+     *            the {@link Scheduler} to signal on
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> observeOn(Scheduler scheduler) {
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return PromisePlugins.onAssembly(new PromiseObserveOn<T>(this, scheduler));
+    }
+
+    /**
+     * Returns a Promise that signals the value of this Promise after the given delay, on the
+     * {@link Schedulers#computation() computation} Scheduler; an error is signalled right away.
+     * <p>
+     * No thread sleeps while waiting: the delay is kept by a shared hashed-wheel timer, with a precision
+     * of one tick (10 milliseconds by default).
+     *
+     * @param delay
+     *            the delay to shift the value by
+     * @param unit
+     *            the time unit of {@code delay}
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> delay(long delay, TimeUnit unit) {
+        return delay(delay, unit, Schedulers.computation());
+    }
+
+    /**
+     * Returns a Promise that signals the value of this Promise after the given delay, on the given
+     * Scheduler; an error is signalled right away.
+     * <p>
+     * No thread sleeps while waiting: the delay is kept by a shared hashed-wheel timer, with a precision
+     * of one tick (10 milliseconds by default).
+     *
+     * @param delay
+     *            the delay to shift the value by
+     * @param unit
+     *            the time unit of {@code delay}
+     * @param scheduler
+     *            the {@link Scheduler} to signal the value on
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> delay(long delay, TimeUnit unit, Scheduler scheduler) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return PromisePlugins.onAssembly(new PromiseDelay<T>(this, delay, unit, scheduler));
+    }
+
+    /**
+     * Returns a Promise that mirrors this Promise but fails with a {@link java.util.concurrent.TimeoutException
+     * TimeoutException} if it doesn't settle within the given time, in which case this Promise is disposed.
+     * <p>
+     * The deadline is tracked by a shared hashed-wheel timer, so it is honored with a precision of one tick
+     * (10 milliseconds by default); scheduling and cancelling a deadline is O(1) and allocation-free.
+     * The TimeoutException is signalled on the {@link Schedulers#computation() computation} Scheduler.
+     *
+     * @param timeout
+     *            the maximum time this Promise may take to settle
+     * @param unit
+     *            the time unit of {@code timeout}
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> timeout(long timeout, TimeUnit unit) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        return PromisePlugins.onAssembly(new PromiseTimeout<T>(this, timeout, unit, Schedulers.computation(), null));
+    }
+
+    /**
+     * Returns a Promise that mirrors this Promise but switches to the given fallback if this Promise
+     * doesn't settle within the given time, in which case this Promise is disposed.
+     * <p>
+     * The deadline is tracked by a shared hashed-wheel timer, so it is honored with a precision of one tick
+     * (10 milliseconds by default). The fallback is subscribed to on the
+     * {@link Schedulers#computation() computation} Scheduler.
+     *
+     * @param timeout
+     *            the maximum time this Promise may take to settle
+     * @param unit
+     *            the time unit of {@code timeout}
+     * @param fallback
+     *            the source to switch to on timeout
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> timeout(long timeout, TimeUnit unit, PromiseSource<? extends T> fallback) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(fallback, "fallback is null");
+        return PromisePlugins.onAssembly(new PromiseTimeout<T>(this, timeout, unit, Schedulers.computation(), fallback));
+    }
+
+    /**
+     * Returns a Promise that resubscribes to this Promise when it fails, at most the given number of times,
+     * and fails with the last error once the retries are exhausted.
+     * <p>
+     * Resubscribing re-runs the source: a {@link #fromCallable(Callable) fromCallable} source calls its
+     * Callable again. Each retry is reported to {@link PromisePlugins#setOnPromiseRetry PromisePlugins}.
+     *
+     * @param times
+     *            the maximum number of retries, zero means no retry
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> retry(long times) {
+        return retry(times, Functions.alwaysTrue());
+    }
+
+    /**
+     * Returns a Promise that resubscribes to this Promise when it fails, as long as the predicate
+     * accepts the error, and fails with the first error the predicate rejects.
+     * <p>
+     * Each retry is reported to {@link PromisePlugins#setOnPromiseRetry PromisePlugins}.
+     *
+     * @param predicate
+     *            the predicate that decides whether an error should be retried
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> retry(Predicate<? super Throwable> predicate) {
+        return retry(Long.MAX_VALUE, predicate);
+    }
+
+    /**
+     * Returns a Promise that resubscribes to this Promise when it fails, at most the given number of times
+     * and as long as the predicate accepts the error.
+     * <p>
+     * Each retry is reported to {@link PromisePlugins#setOnPromiseRetry PromisePlugins}.
+     *
+     * @param times
+     *            the maximum number of retries, zero means no retry
+     * @param predicate
+     *            the predicate that decides whether an error should be retried
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> retry(long times, Predicate<? super Throwable> predicate) {
+        if (times < 0L) {
+            throw new IllegalArgumentException("times >= 0 required but it was " + times);
+        }
+        ObjectHelper.requireNonNull(predicate, "predicate is null");
+        return PromisePlugins.onAssembly(new PromiseRetry<T>(this, times, predicate));
+    }
+
+    /**
+     * Returns a Promise that resubscribes to this Promise when it fails, at most the given number of times,
+     * waiting an exponentially growing delay before each retry.
+     * <p>
+     * The delay before the n-th retry is {@code initialDelay * multiplier^(n - 1)}, capped to {@code maxDelay},
+     * then shortened by a random share of up to {@code jitter} so that clients failing together don't retry
+     * together. No thread waits for the delay: it is kept by a shared hashed-wheel timer and the resubscription
+     * happens on the {@link Schedulers#computation() computation} Scheduler.
+     * Each retry is reported to {@link PromisePlugins#setOnPromiseRetry PromisePlugins}.
+     *
+     * @param times
+     *            the maximum number of retries, zero means no retry
+     * @param initialDelay
+     *            the delay before the first retry, positive
+     * @param maxDelay
+     *            the upper bound of the delay, not less than {@code initialDelay}
+     * @param unit
+     *            the time unit of the delays
+     * @param multiplier
+     *            the factor applied to the delay after each retry, at least 1
+     * @param jitter
+     *            the maximum share of the delay that is randomly taken off, between 0 and 1
+     * @return the new Promise instance
+     * @since 0.3
+     */
+    public final Promise<T> retryWithBackoff(long times, long initialDelay, long maxDelay, TimeUnit unit,
+                                             double multiplier, double jitter) {
+        if (times < 0L) {
+            throw new IllegalArgumentException("times >= 0 required but it was " + times);
+        }
+        ObjectHelper.verifyPositive(initialDelay, "initialDelay");
+        if (maxDelay < initialDelay) {
+            throw new IllegalArgumentException("maxDelay >= initialDelay required but it was " + maxDelay);
+        }
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        if (!(multiplier >= 1d)) {
+            throw new IllegalArgumentException("multiplier >= 1 required but it was " + multiplier);
+        }
+        if (!(jitter >= 0d && jitter <= 1d)) {
+            throw new IllegalArgumentException("jitter in [0, 1] required but it was " + jitter);
+        }
+        return PromisePlugins.onAssembly(new PromiseRetry<T>(this, times, Functions.alwaysTrue(),
+                unit.toNanos(initialDelay), unit.toNanos(maxDelay), multiplier, jitter, Schedulers.computation()));
+    }
+
+    /**
+     * Subscribes to this Promise, waits in a blocking fashion until it settles and returns
+     * the value, or throws the error as-is (checked exceptions included).
+     * <p>
+     * The wait spins briefly before parking the current thread. If the
+     * {@link PromisePlugins#setOnBeforeBlocking(java.util.function.BooleanSupplier) blocking hook}
+     * forbids blocking on the current thread, an {@code IllegalStateException} is thrown instead.
+     *
+     * @return the value of this Promise
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public final T blockingGet() {
+        if (this instanceof ScalarCallable) {
+            return ((ScalarCallable<T>)this).call();
+        }
+        BlockingObserver<T> observer = new BlockingObserver<T>();
+        subscribe(observer);
+        return observer.blockingGet();
+    }
+
+    /**
+     * Subscribes to this Promise, waits in a blocking fashion at most the given time until it settles
+     * and returns the value, or throws the error as-is (checked exceptions included).
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of {@code timeout}
+     * @return the value of this Promise
+     * @throws RuntimeException wrapping a {@link java.util.concurrent.TimeoutException TimeoutException}
+     *         if the Promise didn't settle in time
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public final T blockingGet(long timeout, TimeUnit unit) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        if (this instanceof ScalarCallable) {
+            return ((ScalarCallable<T>)this).call();
+        }
+        BlockingObserver<T> observer = new BlockingObserver<T>();
+        subscribe(observer);
+        return observer.blockingGet(timeout, unit);
+    }
+
+    /**
+     * Subscribes to this Promise and waits in a blocking fashion until it settles, ignoring the value
+     * and throwing the error as-is (checked exceptions included).
+     *
+     * @since 0.3
+     */
+    public final void blockingAwait() {
+        blockingGet();
+    }
+
+    /**
+     * Subscribes to this Promise and returns a {@link CompletableFuture} that is completed directly
+     * by the value or error of this Promise, on the thread that settles it.
+     *
+     * @return the new CompletableFuture instance
+     * @since 0.3
+     */
+    @SuppressWarnings("unchecked")
+    public final CompletableFuture<T> toCompletableFuture() {
+        if (this instanceof PromiseJust) {
+            return CompletableFuture.completedFuture(((ScalarCallable<T>)this).call());
+        }
+        CompletableFutureObserver<T> observer = new CompletableFutureObserver<T>();
+        subscribe(observer);
+        return observer;
+    }
+
     /**
      * Subscribes to a PromiseSource and ignores {@code onComplete} emission.
      * <p>
@@ -149,6 +1243,8 @@ public abstract class Promise<T> implements PromiseSource<T> {
     public final void done() {
         subscribe(new Observer<T>() {
 
+            @Override public void onSubscribe(Disposable d) {}
+
             @Override public void onComplete(T value) {}
 
             @Override public void onError(Throwable e) {}
@@ -168,6 +1264,29 @@ public abstract class Promise<T> implements PromiseSource<T> {
         done();
     }
 
+    /**
+     * Subscribes to a PromiseSource and provides callbacks to handle its value or error.
+     * <p>
+     * Disposing the returned Disposable before the Promise settles cancels the upstream work:
+     * a {@link #fromCallable(Callable) fromCallable} task that hasn't started is skipped and
+     * a running one is interrupted; neither callback is called afterwards.
+     *
+     * @param onComplete
+     *          the {@code Consumer<T>} you have designed to accept the value
+     * @param onError
+     *          the {@code Consumer<Throwable>} you have designed to accept the error
+     * @return a {@link Disposable} reference with which the caller can stop receiving the signal
+     *         before the Promise has settled
+     * @since 0.3
+     */
+    public final Disposable subscribe(Consumer<? super T> onComplete, Consumer<? super Throwable> onError) {
+        ObjectHelper.requireNonNull(onComplete, "onComplete is null");
+        ObjectHelper.requireNonNull(onError, "onError is null");
+        ConsumerObserver<T> observer = new ConsumerObserver<T>(onComplete, onError);
+        subscribe(observer);
+        return observer;
+    }
+
     /**
      * Subscribes to a PromiseSource and provides a Observer to handle one of {@code onComplete}
      * and {@code onError}.
@@ -193,7 +1312,7 @@ public abstract class Promise<T> implements PromiseSource<T> {
             // can't call onSubscribe because the call might have set a Subscription already
             PromisePlugins.onError(e);
 
-            NullPointerException npe = new NullPointerException("Actually not, but can't throw other exceptions");
+            NullPointerException npe = ExceptionHelper.nullPointer("Actually not, but can't throw other exceptions");
             npe.initCause(e);
             throw npe;
         }
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise;
+
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@code Scheduler} is an object that specifies an API for scheduling
+ * units of work with or without delays.
+ * <p>
+ * Schedulers are meant to be long-lived and shared; the standard instances are
+ * available from {@link com.smontiel.promise.schedulers.Schedulers Schedulers}.
+ * Every task handed to a Scheduler is routed through {@link PromisePlugins#onSchedule(Runnable)}
+ * before it is executed.
+ *
+ * @since 0.3
+ */
+public abstract class Scheduler {
+
+    /** The Workers handed out by {@link #sharedWorker()}, created on first use. */
+    private volatile Worker[] sharedWorkers;
+
+    private final AtomicInteger sharedWorkerIndex = new AtomicInteger();
+
+    /**
+     * Retrieves or creates a new {@link Scheduler.Worker} that represents serial execution of actions.
+     * <p>
+     * When work is completed it should be disposed via {@link Scheduler.Worker#dispose()}.
+     * <p>
+     * Work on a {@link Scheduler.Worker} is guaranteed to be sequential.
+     *
+     * @return a Worker representing a serial queue of actions to be executed
+     */
+    public abstract Worker createWorker();
+
+    /**
+     * Returns one of a fixed set of long-lived Workers, one per available processor, handed out in
+     * turn and shared by everyone using this Scheduler.
+     * <p>
+     * Meant for operators that hand many short tasks over to the Scheduler, such as signals: the tasks
+     * queued on one shared Worker at about the same time run in a single batch instead of costing an
+     * executor hand-off each, while the set of Workers keeps them from all running on one thread.
+     * The shared Workers must not be disposed.
+     *
+     * @return a shared Worker
+     * @since 0.3
+     */
+    public final Worker sharedWorker() {
+        Worker[] workers = sharedWorkers;
+        if (workers == null) {
+            workers = createSharedWorkers();
+        }
+        return workers[(sharedWorkerIndex.getAndIncrement() & Integer.MAX_VALUE) % workers.length];
+    }
+
+    private synchronized Worker[] createSharedWorkers() {
+        Worker[] workers = sharedWorkers;
+        if (workers == null) {
+            workers = new Worker[Runtime.getRuntime().availableProcessors()];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = createWorker();
+            }
+            sharedWorkers = workers;
+        }
+        return workers;
+    }
+
+    /**
+     * Returns true if the calling thread is one of the threads this Scheduler runs its tasks on, in
+     * which case work meant for this Scheduler may run right away instead of being scheduled.
+     * <p>
+     * The default implementation returns false.
+     * @return true if called from one of this Scheduler's threads
+     * @since 0.3
+     */
+    public boolean isCurrentThread() {
+        return false;
+    }
+
+    /**
+     * Returns the 'current time' of the Scheduler in the specified time unit.
+     * @param unit the time unit
+     * @return the 'current time'
+     */
+    public long now(TimeUnit unit) {
+        return unit.convert(System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Allows the Scheduler instance to start threads
+     * and accept tasks on them.
+     * <p>Implementations should make sure the call is idempotent and thread-safe.
+     */
+    public void start() {
+
+    }
+
+    /**
+     * Instructs the Scheduler instance to stop threads
+     * and stop accepting tasks on any outstanding Workers.
+     * <p>Implementations should make sure the call is idempotent and thread-safe.
+     */
+    public void shutdown() {
+
+    }
+
+    /**
+     * Schedules the given task on this scheduler non-delayed execution.
+     *
+     * @param run the task to execute
+     * @return the Disposable instance that lets one cancel this particular task.
+     */
+    public Disposable scheduleDirect(Runnable run) {
+        return scheduleDirect(run, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Schedules the execution of the given task with the given delay amount.
+     * <p>
+     * This method is safe to be called from multiple threads but there are no
+     * ordering guarantees between tasks.
+     *
+     * @param run the task to schedule
+     * @param delay the delay amount, non-positive values indicate non-delayed scheduling
+     * @param unit the unit of measure of the delay amount
+     * @return the Disposable that let's one cancel this particular delayed task.
+     */
+    public Disposable scheduleDirect(Runnable run, long delay, TimeUnit unit) {
+        final Worker w = createWorker();
+
+        DisposeTask task = new DisposeTask(run, w);
+
+        w.schedule(task, delay, unit);
+
+        return task;
+    }
+
+    /**
+     * Sequential Scheduler for executing actions on a single thread or event loop.
+     * <p>
+     * Disposing the {@link Worker} cancels all outstanding work and allows resource cleanup.
+     * <p>
+     * Implementations are responsible for routing every scheduled task through
+     * {@link PromisePlugins#onSchedule(Runnable)}.
+     */
+    public abstract static class Worker implements Disposable {
+        /**
+         * Schedules a Runnable for execution without delay.
+         *
+         * @param run
+         *            Runnable to schedule
+         * @return a Disposable to be able to unsubscribe the action (cancel it if not executed)
+         */
+        public Disposable schedule(Runnable run) {
+            return schedule(run, 0L, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Schedules an Runnable for execution at some point in the future specified by a time delay
+         * relative to the current time.
+         * <p>
+         * Note to implementors: non-positive {@code delayTime} should be regarded as non-delayed schedule, i.e.,
+         * as if the {@link #schedule(Runnable)} was called.
+         *
+         * @param run
+         *            the Runnable to schedule
+         * @param delay
+         *            time to "wait" before executing the action; non-positive values indicate an non-delayed
+         *            schedule
+         * @param unit
+         *            the time unit of {@code delayTime}
+         * @return a Disposable to be able to unsubscribe the action (cancel it if not executed)
+         */
+        public abstract Disposable schedule(Runnable run, long delay, TimeUnit unit);
+
+        /**
+         * Returns true if the calling thread is currently running a task of this Worker, in which
+         * case work meant for this Worker may run right away instead of being scheduled.
+         * <p>
+         * The default implementation returns false.
+         * @return true if called from within a task of this Worker
+         */
+        public boolean isCurrentThread() {
+            return false;
+        }
+
+        /**
+         * Returns the 'current time' of the Worker in the specified time unit.
+         * @param unit the time unit
+         * @return the 'current time'
+         */
+        public long now(TimeUnit unit) {
+            return unit.convert(System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    static final class DisposeTask implements Runnable, Disposable {
+        final Runnable decoratedRun;
+        final Worker w;
+
+        DisposeTask(Runnable decoratedRun, Worker w) {
+            this.decoratedRun = decoratedRun;
+            this.w = w;
+        }
+
+        @Override
+        public void run() {
+            try {
+                decoratedRun.run();
+            } finally {
+                dispose();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            w.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return w.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.exceptions;
+
+/**
+ * Records where a {@code then} or {@code fail} stage was assembled; added as a suppressed exception to
+ * the errors passing through that stage while
+ * {@link com.smontiel.promise.internal.PromisePlugins#enableAssemblyTracking(int) assembly tracking} is on.
+ * <p>
+ * The exception has no stack trace of its own, the call site is its message.
+ * @since 0.3
+ */
+public final class AssemblySiteException extends RuntimeException {
+
+    private static final long serialVersionUID = -3560463513735925236L;
+
+    final StackTraceElement site;
+
+    /**
+     * Constructs an instance for the given call site.
+     * @param site the call site, not null
+     */
+    public AssemblySiteException(StackTraceElement site) {
+        super("Promise stage assembled at " + site, null, false, false);
+        this.site = site;
+    }
+
+    /**
+     * Returns the call site that assembled the stage.
+     * @return the call site
+     */
+    public StackTraceElement getSite() {
+        return site;
+    }
+}
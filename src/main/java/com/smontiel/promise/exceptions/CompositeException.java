@@ -15,6 +15,8 @@
  */
 package com.smontiel.promise.exceptions;
 
+import com.smontiel.promise.internal.ExceptionHelper;
+
 import java.io.*;
 import java.util.*;
 
@@ -40,6 +42,14 @@ public final class CompositeException extends RuntimeException {
     private final String message;
     private Throwable cause;
 
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (ExceptionHelper.STACKLESS_WRAPPERS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     /**
      * Constructs a CompositeException with the given array of Throwables as the
      * list of suppressed exceptions.
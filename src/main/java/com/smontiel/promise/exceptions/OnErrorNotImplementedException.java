@@ -13,6 +13,8 @@
 
 package com.smontiel.promise.exceptions;
 
+import com.smontiel.promise.internal.ExceptionHelper;
+
 /**
  * Represents an exception used to signal to the {@code PromisePlugins.onError()} that a
  * callback-based subscribe() method on a base reactive type didn't specify
@@ -37,6 +39,14 @@ public final class OnErrorNotImplementedException extends RuntimeException {
         super(message, e != null ? e : new NullPointerException());
     }
 
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (ExceptionHelper.STACKLESS_WRAPPERS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     /**
      * Wraps the {@code Throwable} before it
      * is signalled to the {@code PromisePlugins.onError()}
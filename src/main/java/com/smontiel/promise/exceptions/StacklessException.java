@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.exceptions;
+
+/**
+ * Base class of the lightweight rejections of expected-failure flows (a cache miss, a validation
+ * failure): no stack trace is filled in and no suppressed exception is recorded, so creating one
+ * costs about as much as any small object, and one instance can be shared by many rejections.
+ * <p>
+ * Extend it with a public constructor taking the message to use it with
+ * {@link com.smontiel.promise.Promise#reject(Class, String) Promise.reject(Class, String)}, which
+ * reuses one instance per type and message.
+ * @since 0.3
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = -6712416946286613346L;
+
+    /**
+     * Constructs an instance with the given message.
+     * @param message the message, may be null
+     */
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Constructs an instance with the given message and cause.
+     * @param message the message, may be null
+     * @param cause the cause, may be null
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
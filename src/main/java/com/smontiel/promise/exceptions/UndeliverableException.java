@@ -13,6 +13,8 @@
 
 package com.smontiel.promise.exceptions;
 
+import com.smontiel.promise.internal.ExceptionHelper;
+
 /**
  * Wrapper for Throwable errors that are sent to `RxJavaPlugins.onError`.
  * <p>History: 0.1 - experimental
@@ -30,4 +32,12 @@ public final class UndeliverableException extends IllegalStateException {
     public UndeliverableException(Throwable cause) {
         super(cause);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (ExceptionHelper.STACKLESS_WRAPPERS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
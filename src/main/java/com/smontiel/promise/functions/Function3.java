@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smontiel.promise.functions;
+
+/**
+ * A functional interface (callback) that computes a value based on multiple input values.
+ * @param <T1> the first value type
+ * @param <T2> the second value type
+ * @param <T3> the third value type
+ * @param <R> the result type
+ * @since 0.3
+ */
+public interface Function3<T1, T2, T3, R> {
+    /**
+     * Calculate a value based on the input values.
+     * @param t1 the first value
+     * @param t2 the second value
+     * @param t3 the third value
+     * @return the result value
+     */
+    R apply(T1 t1, T2 t2, T3 t3);
+}
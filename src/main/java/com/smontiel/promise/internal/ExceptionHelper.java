@@ -30,6 +30,28 @@ public final class ExceptionHelper {
         throw new IllegalStateException("No instances!");
     }
 
+    /**
+     * True if the library's own wrapper exceptions ({@link CompositeException},
+     * {@link com.smontiel.promise.exceptions.UndeliverableException UndeliverableException},
+     * {@link com.smontiel.promise.exceptions.OnErrorNotImplementedException OnErrorNotImplementedException})
+     * and the NullPointerExceptions of its null checks are created without a stack trace, set by the
+     * {@code promise.exceptions.stackless} system property. Their messages and causes are kept.
+     */
+    public static final boolean STACKLESS_WRAPPERS = Boolean.getBoolean("promise.exceptions.stackless");
+
+    /**
+     * Creates the NullPointerException of a failed null check, without a stack trace if
+     * {@link #STACKLESS_WRAPPERS} is set.
+     * @param message the message
+     * @return the new NullPointerException
+     */
+    public static NullPointerException nullPointer(String message) {
+        if (STACKLESS_WRAPPERS) {
+            return new StacklessNullPointerException(message);
+        }
+        return new NullPointerException(message);
+    }
+
     /**
      * If the provided Throwable is an Error this method
      * throws it, otherwise returns a RuntimeException wrapping the error
@@ -123,6 +145,33 @@ public final class ExceptionHelper {
         throw (E)e;
     }
 
+    /**
+     * Throws the given Throwable as-is, even if it is a checked exception, without
+     * declaring it.
+     * @param <E> the generic exception type, inferred as unchecked by the caller
+     * @param e the Throwable to throw
+     * @return nothing, the return type allows writing {@code throw ExceptionHelper.sneakyThrow(e)}
+     * @throws E the Throwable e
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Throwable> RuntimeException sneakyThrow(Throwable e) throws E {
+        throw (E)e;
+    }
+
+    static final class StacklessNullPointerException extends NullPointerException {
+
+        private static final long serialVersionUID = 5734104598547185283L;
+
+        StacklessNullPointerException(String message) {
+            super(message);
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     static final class Termination extends Throwable {
 
         private static final long serialVersionUID = -4649703670690200604L;
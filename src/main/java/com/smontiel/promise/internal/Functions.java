@@ -13,6 +13,7 @@
 package com.smontiel.promise.internal;
 
 import com.smontiel.promise.exceptions.OnErrorNotImplementedException;
+import com.smontiel.promise.functions.*;
 
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -42,6 +43,201 @@ public final class Functions {
         return (Function<T, T>)IDENTITY;
     }
 
+    static final class Array2Func<T1, T2, R> implements Function<Object[], R> {
+        final BiFunction<? super T1, ? super T2, ? extends R> f;
+
+        Array2Func(BiFunction<? super T1, ? super T2, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 2) {
+                throw new IllegalArgumentException("Array of size 2 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1]);
+        }
+    }
+
+    public static <T1, T2, R> Function<Object[], R> toFunction(final BiFunction<? super T1, ? super T2, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array2Func<T1, T2, R>(f);
+    }
+
+    static final class Array3Func<T1, T2, T3, R> implements Function<Object[], R> {
+        final Function3<? super T1, ? super T2, ? super T3, ? extends R> f;
+
+        Array3Func(Function3<? super T1, ? super T2, ? super T3, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 3) {
+                throw new IllegalArgumentException("Array of size 3 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2]);
+        }
+    }
+
+    public static <T1, T2, T3, R> Function<Object[], R> toFunction(final Function3<? super T1, ? super T2, ? super T3, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array3Func<T1, T2, T3, R>(f);
+    }
+
+    static final class Array4Func<T1, T2, T3, T4, R> implements Function<Object[], R> {
+        final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> f;
+
+        Array4Func(Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 4) {
+                throw new IllegalArgumentException("Array of size 4 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, R> Function<Object[], R> toFunction(final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array4Func<T1, T2, T3, T4, R>(f);
+    }
+
+    static final class Array5Func<T1, T2, T3, T4, T5, R> implements Function<Object[], R> {
+        final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> f;
+
+        Array5Func(Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 5) {
+                throw new IllegalArgumentException("Array of size 5 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3], (T5)a[4]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, T5, R> Function<Object[], R> toFunction(final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array5Func<T1, T2, T3, T4, T5, R>(f);
+    }
+
+    static final class Array6Func<T1, T2, T3, T4, T5, T6, R> implements Function<Object[], R> {
+        final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> f;
+
+        Array6Func(Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 6) {
+                throw new IllegalArgumentException("Array of size 6 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3], (T5)a[4], (T6)a[5]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, T5, T6, R> Function<Object[], R> toFunction(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array6Func<T1, T2, T3, T4, T5, T6, R>(f);
+    }
+
+    static final class Array7Func<T1, T2, T3, T4, T5, T6, T7, R> implements Function<Object[], R> {
+        final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> f;
+
+        Array7Func(Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 7) {
+                throw new IllegalArgumentException("Array of size 7 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3], (T5)a[4], (T6)a[5], (T7)a[6]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, T5, T6, T7, R> Function<Object[], R> toFunction(final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array7Func<T1, T2, T3, T4, T5, T6, T7, R>(f);
+    }
+
+    static final class Array8Func<T1, T2, T3, T4, T5, T6, T7, T8, R> implements Function<Object[], R> {
+        final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> f;
+
+        Array8Func(Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 8) {
+                throw new IllegalArgumentException("Array of size 8 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3], (T5)a[4], (T6)a[5], (T7)a[6], (T8)a[7]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Function<Object[], R> toFunction(final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array8Func<T1, T2, T3, T4, T5, T6, T7, T8, R>(f);
+    }
+
+    static final class Array9Func<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> implements Function<Object[], R> {
+        final Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> f;
+
+        Array9Func(Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> f) {
+            this.f = f;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(Object[] a) {
+            if (a.length != 9) {
+                throw new IllegalArgumentException("Array of size 9 expected but got " + a.length);
+            }
+            return f.apply((T1)a[0], (T2)a[1], (T3)a[2], (T4)a[3], (T5)a[4], (T6)a[5], (T7)a[6], (T8)a[7], (T9)a[8]);
+        }
+    }
+
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> Function<Object[], R> toFunction(final Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R> f) {
+        ObjectHelper.requireNonNull(f, "f is null");
+        return new Array9Func<T1, T2, T3, T4, T5, T6, T7, T8, T9, R>(f);
+    }
+
+    enum ArrayToList implements Function<Object[], List<Object>> {
+        INSTANCE;
+
+        @Override
+        public List<Object> apply(Object[] a) {
+            return Arrays.asList(a);
+        }
+    }
+
+    /**
+     * Returns a Function that wraps its array parameter into a fixed-size List without copying it.
+     * @param <T> the element type
+     * @return the Function instance
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T> Function<Object[], List<T>> arrayToList() {
+        return (Function)ArrayToList.INSTANCE;
+    }
+
     public static final Runnable EMPTY_RUNNABLE = new EmptyRunnable();
 
     static final Consumer<Object> EMPTY_CONSUMER = new EmptyConsumer();
@@ -138,6 +334,30 @@ public final class Functions {
         return new JustValue<T, U>(value);
     }
 
+    static final class PeekFunction<T> implements Function<T, T> {
+        final Consumer<? super T> consumer;
+
+        PeekFunction(Consumer<? super T> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public T apply(T t) {
+            consumer.accept(t);
+            return t;
+        }
+    }
+
+    /**
+     * Returns a Function that hands its parameter to the given Consumer and returns it.
+     * @param <T> the value type
+     * @param consumer the consumer to call
+     * @return the new Function instance
+     */
+    public static <T> Function<T, T> peek(Consumer<? super T> consumer) {
+        return new PeekFunction<T>(consumer);
+    }
+
     static final class CastToClass<T, U> implements Function<T, U> {
         final Class<U> clazz;
 
@@ -36,7 +36,7 @@ public final class ObjectHelper {
      */
     public static <T> T requireNonNull(T object, String message) {
         if (object == null) {
-            throw new NullPointerException(message);
+            throw ExceptionHelper.nullPointer(message);
         }
         return object;
     }
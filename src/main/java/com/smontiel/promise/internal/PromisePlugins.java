@@ -20,7 +20,12 @@ import com.smontiel.promise.Promise;
 import com.smontiel.promise.exceptions.CompositeException;
 import com.smontiel.promise.exceptions.OnErrorNotImplementedException;
 import com.smontiel.promise.exceptions.UndeliverableException;
+import com.smontiel.promise.internal.operators.AssemblyTracker;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -29,6 +34,11 @@ import java.util.function.Function;
 /**
  * Utility class to inject handlers to certain standard Promise operations.
  * DO NOT TOUCH - This is magic!
+ * <p>
+ * The hooks called for every stage and task (assembly, subscribe, schedule) are read from an immutable
+ * {@link Hooks} snapshot held by a {@link MutableCallSite}, which the JIT compiles as a constant: with
+ * no hook installed, the null checks fold away. Setting a hook publishes a new snapshot and deoptimizes
+ * the code compiled against the old one, so hooks are meant to be set at startup, not toggled per call.
  */
 public final class PromisePlugins {
     static volatile Consumer<? super Throwable> errorHandler;
@@ -41,11 +51,22 @@ public final class PromisePlugins {
     @SuppressWarnings("rawtypes")
     static volatile BiFunction<? super Promise, ? super Observer, ? extends Observer> onPromiseSubscribe;
 
+    /** Records assembly sites, kept apart from the assembly hook so it can be turned off on its own. */
+    static volatile AssemblyTracker assemblyTracker;
+
     static volatile BooleanSupplier onBeforeBlocking;
 
+    @SuppressWarnings("rawtypes")
+    static volatile BiConsumer<? super Promise, ? super Integer> onPromiseRetry;
+
     /** Prevents changing the plugins. */
     static volatile boolean lockdown;
 
+    /** Holds the constant returning the current {@link Hooks}, replaced by {@link #refresh()}. */
+    static final MutableCallSite HOOKS = new MutableCallSite(MethodHandles.constant(Hooks.class, Hooks.NONE));
+
+    static final MethodHandle CURRENT_HOOKS = HOOKS.dynamicInvoker();
+
     /**
      * Prevents changing the plugins from then on.
      * <p>This allows container-like environments to prevent clients
@@ -87,7 +108,7 @@ public final class PromisePlugins {
         Consumer<? super Throwable> f = errorHandler;
 
         if (error == null) {
-            error = new NullPointerException("onError called with null. Null values are generally not allowed in 2.x operators and sources.");
+            error = ExceptionHelper.nullPointer("onError called with null. Null values are generally not allowed in 2.x operators and sources.");
         } else {
             if (!isBug(error)) {
                 error = new UndeliverableException(error);
@@ -158,7 +179,7 @@ public final class PromisePlugins {
     public static Runnable onSchedule(Runnable run) {
         ObjectHelper.requireNonNull(run, "run is null");
 
-        Function<? super Runnable, ? extends Runnable> f = onScheduleHandler;
+        Function<? super Runnable, ? extends Runnable> f = hooks().onSchedule;
         if (f == null) {
             return run;
         }
@@ -174,8 +195,11 @@ public final class PromisePlugins {
 
         setOnObservableAssembly(null);
         setOnObservableSubscribe(null);
+        disableAssemblyTracking();
 
         setOnBeforeBlocking(null);
+
+        setOnPromiseRetry(null);
     }
 
     /**
@@ -198,6 +222,7 @@ public final class PromisePlugins {
             throw new IllegalStateException("Plugins can't be changed anymore");
         }
         onScheduleHandler = handler;
+        refresh();
     }
 
     /**
@@ -235,6 +260,7 @@ public final class PromisePlugins {
             throw new IllegalStateException("Plugins can't be changed anymore");
         }
         PromisePlugins.onPromiseAssembly = onPromiseAssembly;
+        refresh();
     }
 
     /**
@@ -248,6 +274,7 @@ public final class PromisePlugins {
             throw new IllegalStateException("Plugins can't be changed anymore");
         }
         PromisePlugins.onPromiseSubscribe = onPromiseSubscribe;
+        refresh();
     }
 
     /**
@@ -259,13 +286,50 @@ public final class PromisePlugins {
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <T> Observer<? super T> onSubscribe(Promise<T> source, Observer<? super T> observer) {
-        BiFunction<? super Promise, ? super Observer, ? extends Observer> f = onPromiseSubscribe;
+        BiFunction<? super Promise, ? super Observer, ? extends Observer> f = hooks().onSubscribe;
         if (f != null) {
             return apply(f, source, observer);
         }
         return observer;
     }
 
+    /**
+     * Records the call site of one in {@code sampleRate} assembled {@code then} and {@code fail} stages
+     * and adds it, as a suppressed {@link com.smontiel.promise.exceptions.AssemblySiteException
+     * AssemblySiteException}, to the errors passing through these stages.
+     * <p>
+     * Tracking runs before the assembly hook but is kept apart from it, so hooks set before or after
+     * don't affect turning it off; while it is off, assembly costs one null check. Calling this method
+     * again changes the sample rate.
+     * @param sampleRate record one in this many stages, 1 for all of them
+     * @throws IllegalArgumentException if {@code sampleRate} is not positive
+     * @throws IllegalStateException if the plugins are in lockdown
+     * @since 0.3
+     */
+    public static synchronized void enableAssemblyTracking(int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate > 0 required but it was " + sampleRate);
+        }
+        if (lockdown) {
+            throw new IllegalStateException("Plugins can't be changed anymore");
+        }
+        assemblyTracker = new AssemblyTracker(sampleRate);
+        refresh();
+    }
+
+    /**
+     * Stops recording call sites; the assembly hook is left as it is.
+     * @throws IllegalStateException if the plugins are in lockdown
+     * @since 0.3
+     */
+    public static synchronized void disableAssemblyTracking() {
+        if (lockdown) {
+            throw new IllegalStateException("Plugins can't be changed anymore");
+        }
+        assemblyTracker = null;
+        refresh();
+    }
+
     /**
      * Calls the associated hook function.
      * @param <T> the value type
@@ -274,7 +338,12 @@ public final class PromisePlugins {
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <T> Promise<T> onAssembly(Promise<T> source) {
-        Function<? super Promise, ? extends Promise> f = onPromiseAssembly;
+        Hooks h = hooks();
+        AssemblyTracker t = h.assemblyTracker;
+        if (t != null) {
+            t.track(source);
+        }
+        Function<? super Promise, ? extends Promise> f = h.onAssembly;
         if (f != null) {
             return apply(f, source);
         }
@@ -330,6 +399,46 @@ public final class PromisePlugins {
         return onBeforeBlocking;
     }
 
+    /**
+     * Called by the retry operators each time they resubscribe to their upstream after an error.
+     * @param source the retrying Promise
+     * @param attempt the number of the retry about to happen, starting at 1 and
+     *                staying at {@link Integer#MAX_VALUE} once it gets there
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static void onRetry(Promise<?> source, int attempt) {
+        BiConsumer<? super Promise, ? super Integer> f = onPromiseRetry;
+        if (f != null) {
+            try {
+                ((BiConsumer<Promise, Integer>)f).accept(source, attempt);
+            } catch (Throwable ex) {
+                throw ExceptionHelper.wrapOrThrow(ex);
+            }
+        }
+    }
+
+    /**
+     * Sets the handler called each time a retry operator resubscribes to its upstream, with the
+     * retrying Promise and the number of the retry; this makes retry storms observable.
+     * @param handler the handler to set, null allowed
+     */
+    @SuppressWarnings("rawtypes")
+    public static void setOnPromiseRetry(BiConsumer<? super Promise, ? super Integer> handler) {
+        if (lockdown) {
+            throw new IllegalStateException("Plugins can't be changed anymore");
+        }
+        onPromiseRetry = handler;
+    }
+
+    /**
+     * Returns the current retry handler or null if none is set.
+     * @return the current retry handler, may be null
+     */
+    @SuppressWarnings("rawtypes")
+    public static BiConsumer<? super Promise, ? super Integer> getOnPromiseRetry() {
+        return onPromiseRetry;
+    }
+
     /**
      * Wraps the call to the function in try-catch and propagates thrown
      * checked exceptions as RuntimeException.
@@ -366,6 +475,61 @@ public final class PromisePlugins {
         }
     }
 
+    /**
+     * Returns the current snapshot of the per-stage hooks, a constant to the JIT until the next
+     * {@link #refresh()}.
+     * @return the current Hooks
+     */
+    static Hooks hooks() {
+        try {
+            return (Hooks)CURRENT_HOOKS.invokeExact();
+        } catch (Throwable ex) {
+            throw ExceptionHelper.wrapOrThrow(ex);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the hook fields to all threads.
+     */
+    static synchronized void refresh() {
+        Hooks h = new Hooks(onPromiseAssembly, onPromiseSubscribe, onScheduleHandler, assemblyTracker);
+        if (h.isEmpty()) {
+            h = Hooks.NONE;
+        }
+        HOOKS.setTarget(MethodHandles.constant(Hooks.class, h));
+        MutableCallSite.syncAll(new MutableCallSite[] { HOOKS });
+    }
+
+    /**
+     * Immutable snapshot of the hooks called for every stage and task.
+     */
+    @SuppressWarnings("rawtypes")
+    static final class Hooks {
+        static final Hooks NONE = new Hooks(null, null, null, null);
+
+        final Function<? super Promise, ? extends Promise> onAssembly;
+
+        final BiFunction<? super Promise, ? super Observer, ? extends Observer> onSubscribe;
+
+        final Function<? super Runnable, ? extends Runnable> onSchedule;
+
+        final AssemblyTracker assemblyTracker;
+
+        Hooks(Function<? super Promise, ? extends Promise> onAssembly,
+                BiFunction<? super Promise, ? super Observer, ? extends Observer> onSubscribe,
+                Function<? super Runnable, ? extends Runnable> onSchedule,
+                AssemblyTracker assemblyTracker) {
+            this.onAssembly = onAssembly;
+            this.onSubscribe = onSubscribe;
+            this.onSchedule = onSchedule;
+            this.assemblyTracker = assemblyTracker;
+        }
+
+        boolean isEmpty() {
+            return onAssembly == null && onSubscribe == null && onSchedule == null && assemblyTracker == null;
+        }
+    }
+
     /** Helper class, no instances. */
     private PromisePlugins() {
         throw new IllegalStateException("No instances!");
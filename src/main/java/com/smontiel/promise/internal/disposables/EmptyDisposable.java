@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.disposables;
+
+import com.smontiel.promise.disposables.Disposable;
+
+/**
+ * Represents a stateless empty Disposable that reports being always
+ * empty and disposed.
+ * <p>This is also the type returned by schedulers when a task could not be
+ * scheduled at all.
+ */
+public enum EmptyDisposable implements Disposable {
+    /**
+     * Since EmptyDisposable implements Disposable and is used when the task was
+     * rejected or never scheduled, there is nothing left to dispose.
+     */
+    INSTANCE;
+
+    @Override
+    public void dispose() {
+        // no-op
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this == INSTANCE;
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.fuseable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A marker interface indicating that the implementing Promise settles synchronously,
+ * with an outcome that {@link #call()} can compute directly instead of subscribing.
+ * <p>
+ * Operators detect this at assembly time and fold themselves into a single node that
+ * calls {@link #call()} on subscription, so no per-stage Observer is allocated.
+ *
+ * @param <T> the scalar value type held by the implementing Promise
+ */
+public interface ScalarCallable<T> extends Callable<T> {
+
+    /**
+     * Computes the outcome of the Promise.
+     * <p>
+     * This method overrides {@link Callable#call()} but doesn't declare a checked exception; a
+     * rejected outcome is thrown as-is, including checked exceptions.
+     * @return the value, never null
+     */
+    @Override
+    T call();
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.observers;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An Observer that lets one thread wait for its terminal signal.
+ * <p>
+ * The waiting thread spins briefly, which catches sources that settle right away on another
+ * thread, then parks through {@link LockSupport} until the signal unparks it. No latch or lock
+ * is allocated. A wait that times out or is interrupted disposes the upstream.
+ *
+ * @param <T> the value type
+ */
+public final class BlockingObserver<T> implements Observer<T> {
+
+    /** Number of times the waiting thread checks for the signal before parking; no spinning on a single CPU. */
+    static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+
+    T value;
+
+    Throwable error;
+
+    volatile boolean done;
+
+    volatile Thread waiter;
+
+    volatile Disposable upstream;
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream = d;
+    }
+
+    @Override
+    public void onComplete(T t) {
+        value = t;
+        done = true;
+        unparkWaiter();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        error = e;
+        done = true;
+        unparkWaiter();
+    }
+
+    void unparkWaiter() {
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    /**
+     * Blocks until the terminal signal arrives and returns the value or throws the error as-is.
+     * @return the value
+     */
+    public T blockingGet() {
+        if (!done) {
+            await(0L);
+        }
+        return result();
+    }
+
+    /**
+     * Blocks until the terminal signal arrives or the timeout elapses, and returns the value
+     * or throws the error as-is.
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout
+     * @return the value
+     * @throws RuntimeException wrapping a {@link TimeoutException} if the timeout elapsed first
+     */
+    public T blockingGet(long timeout, TimeUnit unit) {
+        if (!done) {
+            long nanos = unit.toNanos(timeout);
+            if (nanos <= 0L || !await(nanos)) {
+                dispose();
+                throw ExceptionHelper.wrapOrThrow(new TimeoutException("The Promise did not settle within " + timeout + " " + unit));
+            }
+        }
+        return result();
+    }
+
+    void dispose() {
+        Disposable d = upstream;
+        if (d != null) {
+            d.dispose();
+        }
+    }
+
+    T result() {
+        Throwable ex = error;
+        if (ex != null) {
+            throw ExceptionHelper.sneakyThrow(ex);
+        }
+        return value;
+    }
+
+    /**
+     * Spins, then parks until {@link #done} or the timeout.
+     * @param nanos the timeout in nanoseconds, zero to wait indefinitely
+     * @return true if done, false if timed out
+     */
+    boolean await(long nanos) {
+        if (PromisePlugins.onBeforeBlocking()) {
+            throw new IllegalStateException("Attempt to block on a thread that doesn't allow blocking");
+        }
+        for (int i = SPINS; i > 0; i--) {
+            if (done) {
+                return true;
+            }
+        }
+
+        Thread current = Thread.currentThread();
+        waiter = current;
+        try {
+            long deadline = nanos != 0L ? System.nanoTime() + nanos : 0L;
+            while (!done) {
+                if (Thread.interrupted()) {
+                    dispose();
+                    // the caller still needs to see the interrupt once it catches the wrapper
+                    current.interrupt();
+                    throw ExceptionHelper.wrapOrThrow(new InterruptedException());
+                }
+                if (nanos == 0L) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0L) {
+                        return done;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+            return true;
+        } finally {
+            waiter = null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.observers;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A CompletableFuture that is completed directly by the signals it observes.
+ * <p>
+ * Cancelling the future disposes the upstream.
+ * @param <T> the value type
+ */
+public final class CompletableFutureObserver<T> extends CompletableFuture<T> implements Observer<T> {
+
+    final AtomicReference<Disposable> upstream = new AtomicReference<Disposable>();
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(upstream, d);
+    }
+
+    @Override
+    public void onComplete(T t) {
+        complete(t);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        completeExceptionally(e);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled) {
+            DisposableHelper.dispose(upstream);
+        }
+        return cancelled;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.observers;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.CompositeException;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * An Observer that calls one of two Consumers and can be disposed to cancel the upstream.
+ * <p>
+ * Terminating or disposing drops the upstream reference, so an abandoned chain doesn't stay
+ * reachable from the Disposable handed to the caller.
+ *
+ * @param <T> the value type
+ */
+public final class ConsumerObserver<T> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+
+    private static final long serialVersionUID = -7012088219455310787L;
+
+    final Consumer<? super T> onComplete;
+
+    final Consumer<? super Throwable> onError;
+
+    public ConsumerObserver(Consumer<? super T> onComplete, Consumer<? super Throwable> onError) {
+        this.onComplete = onComplete;
+        this.onError = onError;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(this, d);
+    }
+
+    @Override
+    public void onComplete(T value) {
+        if (getAndSet(DisposableHelper.DISPOSED) == DisposableHelper.DISPOSED) {
+            return;
+        }
+        try {
+            onComplete.accept(value);
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            PromisePlugins.onError(ex);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (getAndSet(DisposableHelper.DISPOSED) == DisposableHelper.DISPOSED) {
+            return;
+        }
+        try {
+            onError.accept(e);
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            PromisePlugins.onError(new CompositeException(e, ex));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return get() == DisposableHelper.DISPOSED;
+    }
+}
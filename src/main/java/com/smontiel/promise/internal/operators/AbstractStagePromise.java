@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+
+/**
+ * Base class for the per-value stages ({@code then}, {@code fail}) that are chained by the
+ * thousands, whose subscription and signals must not take a stack frame per stage.
+ * <p>
+ * Subscribing walks the run of consecutive stages in a loop, creating each stage's
+ * {@link StageObserver} and calling the subscribe hook for it, and only subscribes to the first
+ * source that isn't a stage. The StageObservers in turn deliver the signal through the whole run
+ * in a loop.
+ *
+ * @param <T> the input source type
+ * @param <U> the output type
+ */
+public abstract class AbstractStagePromise<T, U> extends AbstractPromiseWithUpstream<T, U> {
+    /** Where the stage was assembled, set by the {@link AssemblyTracker} if this stage was sampled. */
+    StackTraceElement assemblySite;
+
+    AbstractStagePromise(PromiseSource<T> source) {
+        super(source);
+    }
+
+    /**
+     * Creates the Observer of this stage.
+     * @param actual the downstream Observer
+     * @return the new StageObserver
+     */
+    abstract StageObserver<T, U> createObserver(Observer<? super U> actual);
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    protected final void subscribeActual(Observer<? super U> observer) {
+        AbstractStagePromise stage = this;
+        Observer o = observer;
+        for (;;) {
+            StageObserver so = stage.createObserver(o);
+            so.assemblySite = stage.assemblySite;
+            o = so;
+            PromiseSource up = stage.source;
+            if (!(up instanceof AbstractStagePromise)) {
+                up.subscribe(o);
+                return;
+            }
+            stage = (AbstractStagePromise)up;
+            // what Promise.subscribe would do for this stage
+            o = ObjectHelper.requireNonNull(PromisePlugins.onSubscribe(stage, o), "Plugin returned null Observer");
+        }
+    }
+}
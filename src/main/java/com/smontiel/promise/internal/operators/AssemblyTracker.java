@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.exceptions.AssemblySiteException;
+import com.smontiel.promise.exceptions.StacklessException;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Records the call site of one in {@code sampleRate} {@link AbstractStagePromise stages}
+ * ({@code then}, {@code fail}) as they are assembled.
+ * <p>
+ * The call site is the first frame outside of the library, whose classes are the ones under
+ * {@code com.smontiel.promise} except for tests and benchmarks. It is looked up with the
+ * {@code StackWalker} of Java 9+, which only materializes the frames it is asked for, and with a full
+ * stack trace on Java 8.
+ */
+public final class AssemblyTracker {
+    /** StackWalker.getInstance() or null on Java 8. */
+    static final Object WALKER;
+
+    static final Method WALK;
+
+    static final Method GET_CLASS_NAME;
+
+    static final Method TO_STACK_TRACE_ELEMENT;
+
+    static {
+        Object walker = null;
+        Method walk = null;
+        Method getClassName = null;
+        Method toStackTraceElement = null;
+        try {
+            Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+            Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+            walker = walkerClass.getMethod("getInstance").invoke(null);
+            walk = walkerClass.getMethod("walk", Function.class);
+            getClassName = frameClass.getMethod("getClassName");
+            toStackTraceElement = frameClass.getMethod("toStackTraceElement");
+        } catch (Throwable ex) {
+            // Java 8
+            walker = null;
+        }
+        WALKER = walker;
+        WALK = walk;
+        GET_CLASS_NAME = getClassName;
+        TO_STACK_TRACE_ELEMENT = toStackTraceElement;
+    }
+
+    final int sampleRate;
+
+    public AssemblyTracker(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Records the call site if the Promise is a stage picked by the sampling.
+     * @param p the Promise just assembled
+     */
+    public void track(Promise<?> p) {
+        if (p instanceof AbstractStagePromise
+                && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0)) {
+            ((AbstractStagePromise<?, ?>)p).assemblySite = callSite();
+        }
+    }
+
+    /**
+     * Adds the call site to the error as a suppressed {@link AssemblySiteException}, unless that site is
+     * already attached. Stackless errors are left alone: they are meant to be shared and immutable.
+     * @param error the error passing through the stage
+     * @param site the call site of the stage
+     */
+    static void attach(Throwable error, StackTraceElement site) {
+        if (error instanceof StacklessException) {
+            return;
+        }
+        // the same error may pass the stage once per subscription, e.g. when replayed by cache()
+        synchronized (error) {
+            for (Throwable t : error.getSuppressed()) {
+                if (t instanceof AssemblySiteException && site.equals(((AssemblySiteException)t).getSite())) {
+                    return;
+                }
+            }
+            error.addSuppressed(new AssemblySiteException(site));
+        }
+    }
+
+    static boolean isLibraryFrame(String className) {
+        if (!className.startsWith("com.smontiel.promise.") || className.startsWith("com.smontiel.promise.perf.")) {
+            return false;
+        }
+        int end = className.indexOf('$');
+        if (end < 0) {
+            end = className.length();
+        }
+        return !endsWith(className, end, "Test") && !endsWith(className, end, "Tests")
+                && !endsWith(className, end, "Perf");
+    }
+
+    /** Whether the top-level class name ending at {@code end} ends with the suffix. */
+    static boolean endsWith(String className, int end, String suffix) {
+        return className.regionMatches(end - suffix.length(), suffix, 0, suffix.length());
+    }
+
+    static StackTraceElement callSite() {
+        if (WALKER != null) {
+            try {
+                return (StackTraceElement)WALK.invoke(WALKER, FrameFinder.INSTANCE);
+            } catch (Throwable ex) {
+                // fall through to the stack trace
+            }
+        }
+        for (StackTraceElement e : new Throwable().getStackTrace()) {
+            if (!isLibraryFrame(e.getClassName())) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /** Walks the frames of a StackWalker up to the first one outside the library. */
+    static final class FrameFinder implements Function<Stream<?>, StackTraceElement> {
+        static final FrameFinder INSTANCE = new FrameFinder();
+
+        @Override
+        public StackTraceElement apply(Stream<?> frames) {
+            Iterator<?> it = frames.iterator();
+            try {
+                while (it.hasNext()) {
+                    Object frame = it.next();
+                    if (!isLibraryFrame((String)GET_CLASS_NAME.invoke(frame))) {
+                        return (StackTraceElement)TO_STACK_TRACE_ELEMENT.invoke(frame);
+                    }
+                }
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.IntObserver;
+import com.smontiel.promise.IntPromise;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Applies a function to the {@code int} value of the upstream.
+ */
+public final class IntPromiseThen extends IntPromise {
+    final IntPromise source;
+
+    final IntUnaryOperator mapper;
+
+    public IntPromiseThen(IntPromise source, IntUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver s) {
+        source.subscribe(new ThenObserver(s, mapper));
+    }
+
+    static final class ThenObserver implements IntObserver, Disposable {
+        final IntObserver actual;
+
+        final IntUnaryOperator mapper;
+
+        Disposable s;
+
+        boolean done;
+
+        ThenObserver(IntObserver actual, IntUnaryOperator mapper) {
+            this.actual = actual;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(s, d)) {
+                s = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(int value) {
+            if (done) {
+                return;
+            }
+            done = true;
+            s = DisposableHelper.DISPOSED;
+            int v;
+            try {
+                v = mapper.applyAsInt(value);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                actual.onError(ex);
+                return;
+            }
+            actual.onComplete(v);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                PromisePlugins.onError(e);
+                return;
+            }
+            done = true;
+            s = DisposableHelper.DISPOSED;
+            actual.onError(e);
+        }
+
+        @Override
+        public void dispose() {
+            s.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return s.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.LongObserver;
+import com.smontiel.promise.LongPromise;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+
+/**
+ * Represents a constant {@code long} value.
+ */
+public final class LongPromiseJust extends LongPromise {
+
+    private final long value;
+
+    public LongPromiseJust(long value) {
+        this.value = value;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver s) {
+        s.onSubscribe(EmptyDisposable.INSTANCE);
+        s.onComplete(value);
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.CompositeException;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Relays the first value of any of the sources and disposes the others, or fails with a
+ * {@link CompositeException} holding every error once all the sources failed.
+ * <p>
+ * A single atomic countdown tracks the sources that haven't failed yet: a value drops it to
+ * zero at once and wins, the error that brings it to zero reports the failure of all of them.
+ * The errors are kept in source order in an array allocated up front.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseAny<T> extends Promise<T> {
+
+    final PromiseSource<? extends T>[] sources;
+
+    public PromiseAny(PromiseSource<? extends T>[] sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        PromiseSource<? extends T>[] sources = this.sources;
+        int n = sources.length;
+
+        AnyCoordinator<T> parent = new AnyCoordinator<T>(observer, n);
+
+        observer.onSubscribe(parent);
+
+        for (int i = 0; i < n; i++) {
+            if (parent.isDisposed()) {
+                return;
+            }
+            PromiseSource<? extends T> source = sources[i];
+
+            if (source == null) {
+                parent.innerError(ExceptionHelper.nullPointer("One of the sources is null"), i);
+                continue;
+            }
+
+            source.subscribe(parent.observers[i]);
+        }
+    }
+
+    static final class AnyCoordinator<T> extends AtomicInteger implements Disposable {
+
+        private static final long serialVersionUID = 4383578462871624738L;
+
+        final Observer<? super T> actual;
+
+        final AnyObserver<T>[] observers;
+
+        final Throwable[] errors;
+
+        AnyCoordinator(Observer<? super T> actual, int n) {
+            super(n);
+            this.actual = actual;
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            AnyObserver<T>[] o = new AnyObserver[n];
+            for (int i = 0; i < n; i++) {
+                o[i] = new AnyObserver<T>(this, i);
+            }
+            this.observers = o;
+            this.errors = new Throwable[n];
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() <= 0;
+        }
+
+        @Override
+        public void dispose() {
+            if (getAndSet(0) > 0) {
+                disposeExcept(-1);
+            }
+        }
+
+        void disposeExcept(int index) {
+            AnyObserver<T>[] observers = this.observers;
+            for (int i = 0; i < observers.length; i++) {
+                if (i != index) {
+                    observers[i].dispose();
+                }
+            }
+        }
+
+        void innerSuccess(T value, int index) {
+            if (getAndSet(0) > 0) {
+                disposeExcept(index);
+                actual.onComplete(value);
+            }
+        }
+
+        void innerError(Throwable ex, int index) {
+            errors[index] = ex;
+            for (;;) {
+                int remaining = get();
+                if (remaining <= 0) {
+                    PromisePlugins.onError(ex);
+                    return;
+                }
+                if (compareAndSet(remaining, remaining - 1)) {
+                    if (remaining == 1) {
+                        actual.onError(new CompositeException(errors));
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    static final class AnyObserver<T> extends AtomicReference<Disposable> implements Observer<T> {
+
+        private static final long serialVersionUID = -2935427570954647017L;
+
+        final AnyCoordinator<T> parent;
+
+        final int index;
+
+        AnyObserver(AnyCoordinator<T> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onComplete(T value) {
+            parent.innerSuccess(value, index);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e, index);
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
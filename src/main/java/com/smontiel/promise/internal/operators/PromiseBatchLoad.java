@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.schedulers.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Loads the value of one key through the bulk call of a {@link Batcher}.
+ * <p>
+ * Subscribing adds the key to the window the Batcher currently collects; the window is
+ * dispatched as one call of the batch function once it holds the maximum number of distinct keys,
+ * on the subscribing thread, or once its delay elapsed, on the Batcher's Scheduler.
+ * Subscribers of the same key within a window share its single entry in the bulk call.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class PromiseBatchLoad<K, V> extends Promise<V> {
+    final Batcher<K, V> batcher;
+
+    final K key;
+
+    public PromiseBatchLoad(Batcher<K, V> batcher, K key) {
+        this.batcher = batcher;
+        this.key = key;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super V> s) {
+        LoadDisposable<V> d = new LoadDisposable<V>(s);
+        s.onSubscribe(d);
+        if (!d.disposed) {
+            batcher.add(key, d);
+        }
+    }
+
+    /**
+     * Collects the keys loaded within a window and dispatches them to the batch function.
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Batcher<K, V> {
+        final Function<? super Set<K>, ? extends PromiseSource<? extends Map<K, ? extends V>>> batchFunction;
+
+        final long windowNanos;
+
+        final int maxBatchSize;
+
+        final Scheduler scheduler;
+
+        /** The window collecting keys, null until the next load; guarded by this. */
+        Batch<K, V> current;
+
+        public Batcher(Function<? super Set<K>, ? extends PromiseSource<? extends Map<K, ? extends V>>> batchFunction,
+                long window, TimeUnit unit, int maxBatchSize, Scheduler scheduler) {
+            this.batchFunction = batchFunction;
+            this.windowNanos = unit.toNanos(window);
+            this.maxBatchSize = maxBatchSize;
+            this.scheduler = scheduler;
+        }
+
+        void add(K key, LoadDisposable<V> d) {
+            Batch<K, V> opened = null;
+            Batch<K, V> full = null;
+            synchronized (this) {
+                Batch<K, V> b = current;
+                if (b == null) {
+                    b = new Batch<K, V>(this);
+                    current = b;
+                    opened = b;
+                }
+                b.add(key, d);
+                if (b.waiting.size() >= maxBatchSize) {
+                    current = null;
+                    full = b;
+                } else if (opened != null && windowNanos > 0L) {
+                    HashedWheelTimer.shared().schedule(b, windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            if (full != null) {
+                full.cancel();
+                full.dispatch();
+            } else if (opened != null && windowNanos <= 0L) {
+                // no delay: the window stays open until the Scheduler gets to it
+                opened.expire();
+            }
+        }
+
+        synchronized boolean close(Batch<K, V> b) {
+            if (current == b) {
+                current = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class Batch<K, V> extends HashedWheelTimer.Timeout implements Runnable, Observer<Map<K, ? extends V>> {
+
+        private static final long serialVersionUID = -2716329468620447512L;
+
+        final Batcher<K, V> batcher;
+
+        /** The subscribers per distinct key, in load order; only modified while the window is open. */
+        final LinkedHashMap<K, ArrayList<LoadDisposable<V>>> waiting;
+
+        Batch(Batcher<K, V> batcher) {
+            this.batcher = batcher;
+            this.waiting = new LinkedHashMap<K, ArrayList<LoadDisposable<V>>>();
+        }
+
+        void add(K key, LoadDisposable<V> d) {
+            ArrayList<LoadDisposable<V>> list = waiting.get(key);
+            if (list == null) {
+                list = new ArrayList<LoadDisposable<V>>(1);
+                waiting.put(key, list);
+            }
+            list.add(d);
+        }
+
+        @Override
+        protected void expire() {
+            batcher.scheduler.scheduleDirect(this);
+        }
+
+        @Override
+        public void run() {
+            if (batcher.close(this)) {
+                dispatch();
+            }
+        }
+
+        void dispatch() {
+            PromiseSource<? extends Map<K, ? extends V>> source;
+            try {
+                source = ObjectHelper.requireNonNull(batcher.batchFunction.apply(Collections.unmodifiableSet(waiting.keySet())),
+                        "The batch function returned a null PromiseSource");
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                onError(ex);
+                return;
+            }
+            source.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            // the bulk call is shared by all the keys of the window and runs to completion
+        }
+
+        @Override
+        public void onComplete(Map<K, ? extends V> values) {
+            for (Map.Entry<K, ArrayList<LoadDisposable<V>>> e : waiting.entrySet()) {
+                V v = values.get(e.getKey());
+                for (LoadDisposable<V> d : e.getValue()) {
+                    if (v != null) {
+                        d.onComplete(v);
+                    } else {
+                        d.onError(new NoSuchElementException("The batch function returned no value for key " + e.getKey()));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            for (ArrayList<LoadDisposable<V>> list : waiting.values()) {
+                for (LoadDisposable<V> d : list) {
+                    d.onError(e);
+                }
+            }
+        }
+    }
+
+    static final class LoadDisposable<V> implements Disposable {
+        final Observer<? super V> actual;
+
+        volatile boolean disposed;
+
+        LoadDisposable(Observer<? super V> actual) {
+            this.actual = actual;
+        }
+
+        void onComplete(V value) {
+            if (!disposed) {
+                try {
+                    actual.onComplete(value);
+                } catch (Throwable ex) {
+                    // one failing subscriber must not leave the rest of the batch unsettled
+                    Exceptions.throwIfFatal(ex);
+                    PromisePlugins.onError(ex);
+                }
+            }
+        }
+
+        void onError(Throwable e) {
+            if (!disposed) {
+                try {
+                    actual.onError(e);
+                } catch (Throwable ex) {
+                    // one failing subscriber must not leave the rest of the batch unsettled
+                    Exceptions.throwIfFatal(ex);
+                    PromisePlugins.onError(ex);
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
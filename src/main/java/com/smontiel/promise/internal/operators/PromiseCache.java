@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Subscribes to the source once, on the first subscription, and replays its single
+ * outcome to every current and future Observer.
+ * <p>
+ * The whole state lives in one atomic field: {@link #NOT_STARTED}, then the head of a
+ * CAS-pushed stack of pending observers, then {@link #TERMINATED}. Adding an observer is a
+ * single CAS regardless of how many are already waiting; observers arriving after the
+ * source settled are served from the stored outcome without touching the stack.
+ * <p>
+ * Disposed observers are unlinked from the stack in sweeps, run by one thread at a time once
+ * as many have been disposed as were still pending at the previous sweep, so a source that never
+ * settles doesn't keep abandoned subscriptions reachable.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseCache<T> extends AbstractPromiseWithUpstream<T, T> {
+
+    @SuppressWarnings("rawtypes")
+    static final CacheObserver NOT_STARTED = new CacheObserver<Object>(null, null);
+
+    @SuppressWarnings("rawtypes")
+    static final CacheObserver TERMINATED = new CacheObserver<Object>(null, null);
+
+    /** The least number of disposed observers that triggers a sweep. */
+    static final int SWEEP_THRESHOLD = 16;
+
+    final AtomicReference<CacheObserver<T>> state;
+
+    /** Observers disposed since the last sweep started. */
+    final AtomicInteger garbage;
+
+    /** Held by the thread sweeping the stack. */
+    final AtomicBoolean sweeping;
+
+    /** The number of pending observers the last sweep kept; written by the sweeping thread only. */
+    volatile int lastLive;
+
+    /** Written once before {@link #state} becomes TERMINATED. */
+    T value;
+
+    /** Written once before {@link #state} becomes TERMINATED. */
+    Throwable error;
+
+    @SuppressWarnings("unchecked")
+    public PromiseCache(PromiseSource<T> source) {
+        super(source);
+        this.state = new AtomicReference<CacheObserver<T>>(NOT_STARTED);
+        this.garbage = new AtomicInteger();
+        this.sweeping = new AtomicBoolean();
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        if (state.get() == TERMINATED) {
+            s.onSubscribe(EmptyDisposable.INSTANCE);
+            replay(s);
+            return;
+        }
+        CacheObserver<T> inner = new CacheObserver<T>(this, s);
+        s.onSubscribe(inner);
+        for (;;) {
+            CacheObserver<T> current = state.get();
+            if (current == TERMINATED) {
+                if (!inner.disposed) {
+                    replay(s);
+                }
+                return;
+            }
+            inner.next = current == NOT_STARTED ? null : current;
+            if (state.compareAndSet(current, inner)) {
+                if (current == NOT_STARTED) {
+                    source.subscribe(new SourceObserver<T>(this));
+                }
+                return;
+            }
+        }
+    }
+
+    void replay(Observer<? super T> s) {
+        Throwable ex = error;
+        if (ex != null) {
+            s.onError(ex);
+        } else {
+            s.onComplete(value);
+        }
+    }
+
+    void complete(T t) {
+        value = t;
+        ArrayList<CacheObserver<T>> pending = terminate();
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            CacheObserver<T> inner = pending.get(i);
+            if (!inner.disposed) {
+                inner.actual.onComplete(t);
+            }
+        }
+    }
+
+    void error(Throwable e) {
+        error = e;
+        ArrayList<CacheObserver<T>> pending = terminate();
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            CacheObserver<T> inner = pending.get(i);
+            if (!inner.disposed) {
+                inner.actual.onError(e);
+            }
+        }
+    }
+
+    /**
+     * Swaps in the terminal state and returns the pending observers, the latest first.
+     * <p>
+     * The links are only read, never rewritten, as a sweep may still be running on them.
+     * @return the pending observers, possibly empty
+     */
+    @SuppressWarnings("unchecked")
+    ArrayList<CacheObserver<T>> terminate() {
+        CacheObserver<T> head = state.getAndSet(TERMINATED);
+        ArrayList<CacheObserver<T>> list = new ArrayList<CacheObserver<T>>();
+        if (head != TERMINATED && head != NOT_STARTED) {
+            for (CacheObserver<T> o = head; o != null; o = o.next) {
+                list.add(o);
+            }
+        }
+        return list;
+    }
+
+    void disposed() {
+        int g = garbage.incrementAndGet();
+        if (g >= SWEEP_THRESHOLD && g >= lastLive && sweeping.compareAndSet(false, true)) {
+            try {
+                sweep();
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    /**
+     * Unlinks the disposed observers below the current head.
+     * <p>
+     * Only this thread rewrites links of nodes already in the stack, and it only ever points a live
+     * node at the next live one, so pushes and a concurrent {@link #terminate()} still find every
+     * live observer. The head itself stays, even if disposed, until it gets swept from above.
+     */
+    void sweep() {
+        garbage.set(0);
+        CacheObserver<T> live = state.get();
+        if (live == TERMINATED || live == NOT_STARTED) {
+            return;
+        }
+        int kept = 1;
+        CacheObserver<T> o = live.next;
+        while (o != null) {
+            if (o.disposed) {
+                o = o.next;
+                continue;
+            }
+            live.next = o;
+            live = o;
+            kept++;
+            o = o.next;
+        }
+        live.next = null;
+        lastLive = kept;
+    }
+
+    static final class SourceObserver<T> implements Observer<T> {
+        final PromiseCache<T> parent;
+
+        SourceObserver(PromiseCache<T> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            // the source is shared by every observer, none of them alone may cancel it
+        }
+
+        @Override
+        public void onComplete(T t) {
+            parent.complete(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.error(e);
+        }
+    }
+
+    static final class CacheObserver<T> implements Disposable {
+        final PromiseCache<T> parent;
+
+        final Observer<? super T> actual;
+
+        /** The observer that subscribed before this one, still pending unless {@link #disposed}. */
+        volatile CacheObserver<T> next;
+
+        volatile boolean disposed;
+
+        CacheObserver(PromiseCache<T> parent, Observer<? super T> actual) {
+            this.parent = parent;
+            this.actual = actual;
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.disposed();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+import com.smontiel.promise.internal.schedulers.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays the value of the upstream by the given time; errors are relayed right away.
+ * <p>
+ * The Observer is itself the node scheduled on the shared {@link HashedWheelTimer}, so no thread
+ * waits for the delay; once it elapsed the value is handed to the Scheduler, through
+ * {@link com.smontiel.promise.internal.PromisePlugins#onSchedule PromisePlugins.onSchedule}.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseDelay<T> extends AbstractPromiseWithUpstream<T, T> {
+    final long delay;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public PromiseDelay(PromiseSource<T> source, long delay, TimeUnit unit, Scheduler scheduler) {
+        super(source);
+        this.delay = delay;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        source.subscribe(new DelayObserver<T>(s, delay, unit, scheduler));
+    }
+
+    static final class DelayObserver<T> extends HashedWheelTimer.Timeout implements Observer<T>, Disposable, Runnable {
+
+        private static final long serialVersionUID = -4512717480815433385L;
+
+        final Observer<? super T> actual;
+
+        final long delay;
+
+        final TimeUnit unit;
+
+        final Scheduler scheduler;
+
+        Disposable s;
+
+        T value;
+
+        volatile Disposable task;
+
+        volatile boolean disposed;
+
+        DelayObserver(Observer<? super T> actual, long delay, TimeUnit unit, Scheduler scheduler) {
+            this.actual = actual;
+            this.delay = delay;
+            this.unit = unit;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable s) {
+            if (DisposableHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(T t) {
+            value = t;
+            s = DisposableHelper.DISPOSED;
+            if (delay <= 0L) {
+                expire();
+            } else {
+                HashedWheelTimer.shared().schedule(this, delay, unit);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            s = DisposableHelper.DISPOSED;
+            actual.onError(e);
+        }
+
+        @Override
+        protected void expire() {
+            Disposable d = scheduler.scheduleDirect(this);
+            task = d;
+            if (disposed) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!disposed) {
+                T v = value;
+                value = null;
+                actual.onComplete(v);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            cancel();
+            Disposable d = task;
+            if (d != null) {
+                d.dispose();
+            }
+            d = s;
+            s = DisposableHelper.DISPOSED;
+            d.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
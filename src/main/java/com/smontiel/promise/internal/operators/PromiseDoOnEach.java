@@ -19,11 +19,10 @@ import com.smontiel.promise.Observer;
 import com.smontiel.promise.PromiseSource;
 import com.smontiel.promise.exceptions.CompositeException;
 import com.smontiel.promise.exceptions.Exceptions;
-import com.smontiel.promise.internal.PromisePlugins;
 
 import java.util.function.Consumer;
 
-public final class PromiseDoOnEach<T> extends AbstractPromiseWithUpstream<T, T> {
+public final class PromiseDoOnEach<T> extends AbstractStagePromise<T, T> {
     final Consumer<? super T> onComplete;
     final Consumer<? super Throwable> onError;
     final Runnable onAfterTerminate;
@@ -38,74 +37,46 @@ public final class PromiseDoOnEach<T> extends AbstractPromiseWithUpstream<T, T>
     }
 
     @Override
-    public void subscribeActual(Observer<? super T> t) {
-        source.subscribe(new DoOnEachObserver<T>(t, onComplete, onError, onAfterTerminate));
+    StageObserver<T, T> createObserver(Observer<? super T> t) {
+        return new DoOnEachObserver<T>(t, onComplete, onError, onAfterTerminate);
     }
 
-    static final class DoOnEachObserver<T> implements Observer<T> {
-        final Observer<? super T> actual;
+    static final class DoOnEachObserver<T> extends StageObserver<T, T> {
         final Consumer<? super T> onComplete;
         final Consumer<? super Throwable> onError;
         final Runnable onAfterTerminate;
 
-        boolean done;
-
         DoOnEachObserver(
                 Observer<? super T> actual,
                 Consumer<? super T> onComplete,
                 Consumer<? super Throwable> onError,
                 Runnable onAfterTerminate) {
-            this.actual = actual;
+            super(actual);
             this.onComplete = onComplete;
             this.onError = onError;
             this.onAfterTerminate = onAfterTerminate;
         }
 
         @Override
-        public void onComplete(T t) {
-            if (done) {
-                return;
-            }
-            try {
-                onComplete.accept(t);
-            } catch (Throwable e) {
-                Exceptions.throwIfFatal(e);
-                onError(e);
-                return;
-            }
-
-            done = true;
-            actual.onComplete(t);
-
-            try {
-                onAfterTerminate.run();
-            } catch (Throwable e) {
-                Exceptions.throwIfFatal(e);
-                PromisePlugins.onError(e);
-            }
+        T apply(T t) {
+            onComplete.accept(t);
+            return t;
         }
 
         @Override
-        public void onError(Throwable t) {
-            if (done) {
-                PromisePlugins.onError(t);
-                return;
-            }
-            done = true;
+        Throwable applyError(Throwable t) {
             try {
                 onError.accept(t);
             } catch (Throwable e) {
                 Exceptions.throwIfFatal(e);
                 t = new CompositeException(t, e);
             }
-            actual.onError(t);
+            return t;
+        }
 
-            try {
-                onAfterTerminate.run();
-            } catch (Throwable e) {
-                Exceptions.throwIfFatal(e);
-                PromisePlugins.onError(e);
-            }
+        @Override
+        Runnable afterTerminate() {
+            return onAfterTerminate;
         }
     }
 }
@@ -3,26 +3,126 @@ package com.smontiel.promise.internal.operators;
 import com.smontiel.promise.Observer;
 import com.smontiel.promise.Promise;
 import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.exceptions.StacklessException;
+import com.smontiel.promise.internal.ExceptionHelper;
 import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+import com.smontiel.promise.internal.fuseable.ScalarCallable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class PromiseError<T> extends Promise<T> implements ScalarCallable<T> {
+    /** The number of messages per type {@link #stackless} keeps instances for. */
+    static final int MAX_CACHED_MESSAGES = 64;
+
+    static final ClassValue<ConcurrentHashMap<String, PromiseError<?>>> STACKLESS_CACHE =
+            new ClassValue<ConcurrentHashMap<String, PromiseError<?>>>() {
+        @Override
+        protected ConcurrentHashMap<String, PromiseError<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<String, PromiseError<?>>();
+        }
+    };
 
-public final class PromiseError<T> extends Promise<T> {
     final Callable<? extends Throwable> errorSupplier;
 
+    /** The error signalled to every Observer, null if it comes from the errorSupplier. */
+    final Throwable error;
+
     public PromiseError(Callable<? extends Throwable> errorSupplier) {
         this.errorSupplier = errorSupplier;
+        this.error = null;
+    }
+
+    public PromiseError(Throwable error) {
+        this.errorSupplier = null;
+        this.error = error;
+    }
+
+    /**
+     * Returns a PromiseError signalling an instance of the given type created with the given message,
+     * the same instance for the same type and message, up to {@link #MAX_CACHED_MESSAGES} messages per type.
+     * <p>
+     * A cached instance references its type, which would keep a ClassLoader other than the library's
+     * alive for good, so types from such loaders get a new instance every time.
+     * @param <T> the value type
+     * @param type the StacklessException type, with a public constructor taking the message
+     * @param message the message
+     * @return the PromiseError
+     * @throws IllegalArgumentException if the type can't be instantiated with the message
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PromiseError<T> stackless(Class<? extends StacklessException> type, String message) {
+        ConcurrentHashMap<String, PromiseError<?>> cache = STACKLESS_CACHE.get(type);
+        PromiseError<?> p = cache.get(message);
+        if (p == null) {
+            StacklessException ex;
+            try {
+                ex = type.getConstructor(String.class).newInstance(message);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(type.getName() + " needs a public constructor taking the message", e);
+            }
+            p = new PromiseError<Object>(ex);
+            if (cache.size() < MAX_CACHED_MESSAGES && isLibraryVisible(type)) {
+                PromiseError<?> prev = cache.putIfAbsent(message, p);
+                if (prev != null) {
+                    p = prev;
+                }
+            }
+        }
+        return (PromiseError<T>)p;
+    }
+
+    /**
+     * Returns true if the type was loaded by the ClassLoader of the library or one of its parents,
+     * so caching it can't outlive its loader.
+     */
+    static boolean isLibraryVisible(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader l = PromiseError.class.getClassLoader(); l != null; l = l.getParent()) {
+            if (l == loader) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void subscribeActual(Observer<? super T> s) {
-        Throwable error;
+        s.onSubscribe(EmptyDisposable.INSTANCE);
+        s.onError(error());
+    }
+
+    @Override
+    public T call() {
+        throw ExceptionHelper.sneakyThrow(error());
+    }
+
+    /**
+     * The type parameter of an error source is never used, so every operator applied
+     * to the value of this source can return this very instance.
+     * @param <R> the new value type
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public <R> PromiseError<R> cast() {
+        return (PromiseError<R>)this;
+    }
+
+    Throwable error() {
+        Throwable error = this.error;
+        if (error != null) {
+            return error;
+        }
         try {
             error = ObjectHelper.requireNonNull(errorSupplier.call(), "Callable returned null throwable. Null values are generally not allowed in operators and sources.");
         } catch (Throwable t) {
             Exceptions.throwIfFatal(t);
             error = t;
         }
-        s.onError(error);
+        return error;
     }
 }
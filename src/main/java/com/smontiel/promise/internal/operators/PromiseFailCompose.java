@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.CompositeException;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Maps the error of the upstream to a PromiseSource and relays the outcome of that source.
+ * <p>
+ * The fallback source is subscribed to right away on the thread that delivered the error, without
+ * going through a Scheduler.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseFailCompose<T> extends AbstractPromiseWithUpstream<T, T> {
+    final Function<? super Throwable, ? extends PromiseSource<? extends T>> nextFunction;
+
+    public PromiseFailCompose(PromiseSource<T> source, Function<? super Throwable, ? extends PromiseSource<? extends T>> nextFunction) {
+        super(source);
+        this.nextFunction = nextFunction;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        source.subscribe(new FailComposeObserver<T>(s, nextFunction));
+    }
+
+    static final class FailComposeObserver<T> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+
+        private static final long serialVersionUID = -3613785462384839231L;
+
+        final Observer<? super T> actual;
+
+        final Function<? super Throwable, ? extends PromiseSource<? extends T>> nextFunction;
+
+        FailComposeObserver(Observer<? super T> actual, Function<? super Throwable, ? extends PromiseSource<? extends T>> nextFunction) {
+            this.actual = actual;
+            this.nextFunction = nextFunction;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.setOnce(this, d)) {
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(T value) {
+            actual.onComplete(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            PromiseSource<? extends T> source;
+
+            try {
+                source = ObjectHelper.requireNonNull(nextFunction.apply(e), "The nextFunction returned a null PromiseSource.");
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                actual.onError(new CompositeException(e, ex));
+                return;
+            }
+
+            if (!isDisposed()) {
+                source.subscribe(new PromiseThenCompose.InnerObserver<T>(this, actual));
+            }
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
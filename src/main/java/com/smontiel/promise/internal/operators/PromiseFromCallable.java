@@ -2,30 +2,36 @@ package com.smontiel.promise.internal.operators;
 
 import com.smontiel.promise.Observer;
 import com.smontiel.promise.Promise;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
 import com.smontiel.promise.exceptions.Exceptions;
 import com.smontiel.promise.internal.ObjectHelper;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 
 /**
- * Calls a Callable and emits its resulting single value or signals its exception.
+ * Calls a Callable on the given Scheduler and emits its resulting single value or signals its exception.
  * @param <T> the value type
  */
 public final class PromiseFromCallable<T> extends Promise<T> implements Callable<T> {
     final Callable<T> callable;
+    final Scheduler scheduler;
 
-    public PromiseFromCallable(Callable<T> callable) {
+    public PromiseFromCallable(Callable<T> callable, Scheduler scheduler) {
         this.callable = callable;
+        this.scheduler = scheduler;
     }
 
     @Override
     public void subscribeActual(Observer<? super T> s) {
-        ExecutorService executorService = Executors.newCachedThreadPool();
-        ListenerFutureTask<T> futureTask = new ListenerFutureTask<T>(callable, s, executorService);
-        executorService.execute(futureTask);
+        ListenerFutureTask<T> futureTask = new ListenerFutureTask<T>(callable, s);
+        s.onSubscribe(futureTask);
+        if (futureTask.isCancelled()) {
+            return;
+        }
+        futureTask.setScheduled(scheduler.scheduleDirect(futureTask));
     }
 
     @Override
@@ -33,30 +39,64 @@ public final class PromiseFromCallable<T> extends Promise<T> implements Callable
         return ObjectHelper.requireNonNull(callable.call(), "The callable returned a null value");
     }
 
-    private class ListenerFutureTask<T> extends FutureTask<T> {
-        private Observer<? super T> actual;
-        private ExecutorService executorService;
+    /**
+     * Disposing the task cancels it: a task that has not started yet never calls the Callable,
+     * a running one has its thread interrupted, and in both cases no signal is delivered.
+     * The scheduled wrapper is disposed as well so a pending task leaves the executor's queue
+     * right away instead of when its turn comes.
+     * @param <T> the value type
+     */
+    static final class ListenerFutureTask<T> extends FutureTask<T> implements Disposable {
+        private final Observer<? super T> actual;
+
+        /** The Disposable returned by the Scheduler, set once right after scheduling. */
+        volatile Disposable scheduled;
 
-        ListenerFutureTask(Callable<T> callable, Observer<? super T> actual, ExecutorService executorService) {
+        ListenerFutureTask(Callable<T> callable, Observer<? super T> actual) {
             super(callable);
             this.actual = actual;
-            this.executorService = executorService;
         }
 
         @Override
         protected void done() {
             super.done();
+            if (isCancelled()) {
+                return;
+            }
 
+            T value;
             try {
-                T value = ObjectHelper.requireNonNull(get(), "Callable returned null");
-                actual.onComplete(value);
+                value = ObjectHelper.requireNonNull(get(), "Callable returned null");
+            } catch (ExecutionException e) {
+                actual.onError(e.getCause());
+                return;
             } catch (Throwable e) {
                 Exceptions.throwIfFatal(e);
                 actual.onError(e);
                 return;
-            } finally {
-                executorService.shutdown();
             }
+            actual.onComplete(value);
+        }
+
+        @Override
+        public void dispose() {
+            cancel(true);
+            Disposable d = scheduled;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        void setScheduled(Disposable d) {
+            scheduled = d;
+            if (isCancelled()) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return isCancelled();
         }
     }
 }
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+/**
+ * Signals the outcome of a CompletionStage from within its completion callback, on
+ * whatever thread completes the stage.
+ * @param <T> the value type
+ */
+public final class PromiseFromCompletionStage<T> extends Promise<T> {
+    final CompletionStage<T> stage;
+
+    public PromiseFromCompletionStage(CompletionStage<T> stage) {
+        this.stage = stage;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<T> f = (CompletableFuture<T>)stage;
+            if (f.isDone() && !f.isCompletedExceptionally()) {
+                // already completed: no callback stage needed
+                s.onSubscribe(EmptyDisposable.INSTANCE);
+                T v = f.getNow(null);
+                if (v == null) {
+                    s.onError(ExceptionHelper.nullPointer("The CompletionStage completed with a null value"));
+                } else {
+                    s.onComplete(v);
+                }
+                return;
+            }
+        }
+        CompletionObserver<T> parent = new CompletionObserver<T>(s);
+        s.onSubscribe(parent);
+        stage.whenComplete(parent);
+    }
+
+    /**
+     * The stage belongs to the caller and may be shared, so disposing only stops the delivery of
+     * its outcome; the stage itself is never cancelled.
+     * @param <T> the value type
+     */
+    static final class CompletionObserver<T> implements BiConsumer<T, Throwable>, Disposable {
+        final Observer<? super T> actual;
+
+        volatile boolean disposed;
+
+        CompletionObserver(Observer<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void accept(T t, Throwable e) {
+            if (disposed) {
+                return;
+            }
+            if (e != null) {
+                if (e instanceof CompletionException && e.getCause() != null) {
+                    e = e.getCause();
+                }
+                actual.onError(e);
+            } else if (t == null) {
+                actual.onError(ExceptionHelper.nullPointer("The CompletionStage completed with a null value"));
+            } else {
+                actual.onComplete(t);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -17,12 +17,14 @@ package com.smontiel.promise.internal.operators;
 
 import com.smontiel.promise.Observer;
 import com.smontiel.promise.Promise;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+import com.smontiel.promise.internal.fuseable.ScalarCallable;
 
 /**
  * Represents a constant scalar value.
  * @param <T> the value type
  */
-public final class PromiseJust<T> extends Promise<T> {
+public final class PromiseJust<T> extends Promise<T> implements ScalarCallable<T> {
 
     private final T value;
 
@@ -32,6 +34,12 @@ public final class PromiseJust<T> extends Promise<T> {
 
     @Override
     protected void subscribeActual(Observer<? super T> s) {
+        s.onSubscribe(EmptyDisposable.INSTANCE);
         s.onComplete(value);
     }
+
+    @Override
+    public T call() {
+        return value;
+    }
 }
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Signals the outcome of the upstream on the given Scheduler.
+ * <p>
+ * A signal that already arrives on one of the Scheduler's threads is delivered right away, without a
+ * hop. Any other signal is queued on one of the Scheduler's {@link Scheduler#sharedWorker() shared
+ * Workers}: the signals of many Promises settling together end up in the lock-free queues of a few
+ * Workers and run in batches, one executor task per Worker instead of one per signal, while the
+ * Workers spread them over the Scheduler's threads. Each subscription only keeps its own signal.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseObserveOn<T> extends AbstractPromiseWithUpstream<T, T> {
+    final Scheduler scheduler;
+
+    public PromiseObserveOn(PromiseSource<T> source, Scheduler scheduler) {
+        super(source);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        source.subscribe(new ObserveOnObserver<T>(s, scheduler));
+    }
+
+    static final class ObserveOnObserver<T> extends AtomicReference<Disposable>
+    implements Observer<T>, Disposable, Runnable {
+
+        private static final long serialVersionUID = 3528003840217436037L;
+
+        final Observer<? super T> actual;
+
+        final Scheduler scheduler;
+
+        T value;
+
+        Throwable error;
+
+        ObserveOnObserver(Observer<? super T> actual, Scheduler scheduler) {
+            this.actual = actual;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.setOnce(this, d)) {
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(T value) {
+            if (scheduler.isCurrentThread()) {
+                if (terminate()) {
+                    actual.onComplete(value);
+                }
+                return;
+            }
+            this.value = value;
+            DisposableHelper.replace(this, scheduler.sharedWorker().schedule(this));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (scheduler.isCurrentThread()) {
+                if (terminate()) {
+                    actual.onError(e);
+                }
+                return;
+            }
+            this.error = e;
+            DisposableHelper.replace(this, scheduler.sharedWorker().schedule(this));
+        }
+
+        @Override
+        public void run() {
+            if (!terminate()) {
+                return;
+            }
+            Throwable ex = error;
+            if (ex != null) {
+                actual.onError(ex);
+            } else {
+                T v = value;
+                value = null;
+                actual.onComplete(v);
+            }
+        }
+
+        /**
+         * Claims the delivery of the signal.
+         * @return false if this was disposed before, in which case nothing should be delivered
+         */
+        boolean terminate() {
+            return getAndSet(DisposableHelper.DISPOSED) != DisposableHelper.DISPOSED;
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Applies a function to every item of a List on a ForkJoinPool and signals the results in item order.
+ * <p>
+ * The items are copied when subscribed and split recursively into exactly {@code min(parallelism, size)}
+ * ranges of near-equal size; only those ranges do any work, so at most {@code parallelism} of them run
+ * at once. Each range
+ * writes into its own slots of one presized array, which is signalled as a fixed-size List.
+ * The first error of the function stops the remaining ranges and is signalled as-is.
+ *
+ * @param <T> the item type
+ * @param <R> the result type
+ */
+public final class PromiseParallelMap<T, R> extends Promise<List<R>> {
+    final List<? extends T> items;
+
+    final Function<? super T, ? extends R> mapper;
+
+    final int parallelism;
+
+    final ForkJoinPool pool;
+
+    public PromiseParallelMap(List<? extends T> items, Function<? super T, ? extends R> mapper, int parallelism, ForkJoinPool pool) {
+        this.items = items;
+        this.mapper = mapper;
+        this.parallelism = parallelism;
+        this.pool = pool;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super List<R>> s) {
+        Object[] array = items.toArray();
+        ParallelMapCoordinator<T, R> parent = new ParallelMapCoordinator<T, R>(s, mapper, array);
+        s.onSubscribe(parent);
+        if (parent.isDisposed()) {
+            return;
+        }
+        int ranges = Math.max(1, Math.min(parallelism, array.length));
+        pool.execute(new RootTask<T, R>(parent, ranges));
+    }
+
+    static final class ParallelMapCoordinator<T, R> extends AtomicReference<Throwable> implements Disposable {
+
+        private static final long serialVersionUID = -3172263512735327465L;
+
+        final Observer<? super List<R>> actual;
+
+        final Function<? super T, ? extends R> mapper;
+
+        /** The items, replaced in place by the results. */
+        final Object[] values;
+
+        volatile boolean disposed;
+
+        ParallelMapCoordinator(Observer<? super List<R>> actual, Function<? super T, ? extends R> mapper, Object[] values) {
+            this.actual = actual;
+            this.mapper = mapper;
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        void map(int from, int to) {
+            Object[] a = values;
+            Function<? super T, ? extends R> f = mapper;
+            for (int i = from; i < to; i++) {
+                if (disposed || get() != null) {
+                    return;
+                }
+                try {
+                    a[i] = ObjectHelper.requireNonNull(f.apply((T)a[i]), "The mapper function returned a null value.");
+                } catch (Throwable ex) {
+                    // recorded first: a fatal error still fails the Promise once the root task unwinds
+                    compareAndSet(null, ex);
+                    Exceptions.throwIfFatal(ex);
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete() {
+            if (disposed) {
+                return;
+            }
+            Throwable ex = get();
+            try {
+                if (ex != null) {
+                    actual.onError(ex);
+                } else {
+                    actual.onComplete((List<R>)Arrays.asList(values));
+                }
+            } catch (Throwable e) {
+                // runs inside the root ForkJoin task, which would otherwise swallow the exception
+                Exceptions.throwIfFatal(e);
+                PromisePlugins.onError(e);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class RangeTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 4610342853453093373L;
+
+        final ParallelMapCoordinator<T, R> parent;
+
+        final int from;
+
+        final int to;
+
+        /** The number of ranges this one is still to be split into. */
+        final int ranges;
+
+        RangeTask(ParallelMapCoordinator<T, R> parent, int from, int to, int ranges) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected void compute() {
+            if (ranges == 1) {
+                parent.map(from, to);
+            } else {
+                int left = ranges >> 1;
+                int mid = from + (int)((long)(to - from) * left / ranges);
+                invokeAll(new RangeTask<T, R>(parent, from, mid, left),
+                        new RangeTask<T, R>(parent, mid, to, ranges - left));
+            }
+        }
+    }
+
+    static final class RootTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = -1496011302757441287L;
+
+        final ParallelMapCoordinator<T, R> parent;
+
+        final int ranges;
+
+        RootTask(ParallelMapCoordinator<T, R> parent, int ranges) {
+            this.parent = parent;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                new RangeTask<T, R>(parent, 0, parent.values.length, ranges).compute();
+            } finally {
+                parent.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Reduces the items of a List on a ForkJoinPool: every range of items is folded with the accumulator,
+ * starting from the identity, and the partial results are merged with the combiner, in item order.
+ * <p>
+ * The items are copied when subscribed and split recursively into exactly {@code min(parallelism, size)}
+ * ranges of near-equal size; only those ranges do any work, so at most {@code parallelism} of them run
+ * at once.
+ * The first error of the accumulator or the combiner stops the remaining ranges and is signalled as-is.
+ *
+ * @param <T> the item type
+ * @param <R> the result type
+ */
+public final class PromiseParallelReduce<T, R> extends Promise<R> {
+    final List<? extends T> items;
+
+    final R identity;
+
+    final BiFunction<R, ? super T, R> accumulator;
+
+    final BinaryOperator<R> combiner;
+
+    final int parallelism;
+
+    final ForkJoinPool pool;
+
+    public PromiseParallelReduce(List<? extends T> items, R identity, BiFunction<R, ? super T, R> accumulator,
+            BinaryOperator<R> combiner, int parallelism, ForkJoinPool pool) {
+        this.items = items;
+        this.identity = identity;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.parallelism = parallelism;
+        this.pool = pool;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> s) {
+        Object[] array = items.toArray();
+        ParallelReduceCoordinator<T, R> parent = new ParallelReduceCoordinator<T, R>(s, identity, accumulator, combiner, array);
+        s.onSubscribe(parent);
+        if (parent.isDisposed()) {
+            return;
+        }
+        int ranges = Math.max(1, Math.min(parallelism, array.length));
+        pool.execute(new RootTask<T, R>(parent, ranges));
+    }
+
+    static final class ParallelReduceCoordinator<T, R> extends AtomicReference<Throwable> implements Disposable {
+
+        private static final long serialVersionUID = 6083716251468217473L;
+
+        final Observer<? super R> actual;
+
+        final R identity;
+
+        final BiFunction<R, ? super T, R> accumulator;
+
+        final BinaryOperator<R> combiner;
+
+        final Object[] values;
+
+        volatile boolean disposed;
+
+        ParallelReduceCoordinator(Observer<? super R> actual, R identity, BiFunction<R, ? super T, R> accumulator,
+                BinaryOperator<R> combiner, Object[] values) {
+            this.actual = actual;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.values = values;
+        }
+
+        boolean isCancelled() {
+            return disposed || get() != null;
+        }
+
+        /** Returns the fold of the range, null if cancelled. */
+        @SuppressWarnings("unchecked")
+        R reduce(int from, int to) {
+            Object[] a = values;
+            BiFunction<R, ? super T, R> f = accumulator;
+            R acc = identity;
+            for (int i = from; i < to; i++) {
+                if (isCancelled()) {
+                    return null;
+                }
+                try {
+                    acc = ObjectHelper.requireNonNull(f.apply(acc, (T)a[i]), "The accumulator returned a null value.");
+                } catch (Throwable ex) {
+                    // recorded first: a fatal error still fails the Promise once the root task unwinds
+                    compareAndSet(null, ex);
+                    Exceptions.throwIfFatal(ex);
+                    return null;
+                }
+            }
+            return acc;
+        }
+
+        /** Returns the merge of two partial results, null if cancelled. */
+        R combine(R left, R right) {
+            if (isCancelled()) {
+                return null;
+            }
+            try {
+                return ObjectHelper.requireNonNull(combiner.apply(left, right), "The combiner returned a null value.");
+            } catch (Throwable ex) {
+                compareAndSet(null, ex);
+                Exceptions.throwIfFatal(ex);
+                return null;
+            }
+        }
+
+        void complete(R result) {
+            if (disposed) {
+                return;
+            }
+            Throwable ex = get();
+            try {
+                if (ex != null) {
+                    actual.onError(ex);
+                } else {
+                    actual.onComplete(result);
+                }
+            } catch (Throwable e) {
+                // runs inside the root ForkJoin task, which would otherwise swallow the exception
+                Exceptions.throwIfFatal(e);
+                PromisePlugins.onError(e);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class RangeTask<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = -5186383880329717183L;
+
+        final ParallelReduceCoordinator<T, R> parent;
+
+        final int from;
+
+        final int to;
+
+        /** The number of ranges this one is still to be split into. */
+        final int ranges;
+
+        RangeTask(ParallelReduceCoordinator<T, R> parent, int from, int to, int ranges) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected R compute() {
+            if (ranges == 1) {
+                return parent.reduce(from, to);
+            }
+            int half = ranges >> 1;
+            int mid = from + (int)((long)(to - from) * half / ranges);
+            RangeTask<T, R> right = new RangeTask<T, R>(parent, mid, to, ranges - half);
+            right.fork();
+            R left = new RangeTask<T, R>(parent, from, mid, half).compute();
+            R r = right.join();
+            if (left == null || r == null) {
+                return null;
+            }
+            return parent.combine(left, r);
+        }
+    }
+
+    static final class RootTask<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 2969214287745342075L;
+
+        final ParallelReduceCoordinator<T, R> parent;
+
+        final int ranges;
+
+        RootTask(ParallelReduceCoordinator<T, R> parent, int ranges) {
+            this.parent = parent;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected R compute() {
+            R result = null;
+            try {
+                result = new RangeTask<T, R>(parent, 0, parent.values.length, ranges).compute();
+            } finally {
+                parent.complete(result);
+            }
+            return null;
+        }
+    }
+}
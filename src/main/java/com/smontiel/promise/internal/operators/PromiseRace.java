@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Relays the first signal, value or error, of any of the sources and disposes the others.
+ * <p>
+ * The winner is decided by a single CAS on the coordinator; the losers are disposed right
+ * away so a running {@link Promise#fromCallable(java.util.concurrent.Callable) fromCallable}
+ * task is interrupted instead of occupying its thread until it finishes.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseRace<T> extends Promise<T> {
+
+    final PromiseSource<? extends T>[] sources;
+
+    public PromiseRace(PromiseSource<? extends T>[] sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        PromiseSource<? extends T>[] sources = this.sources;
+        int n = sources.length;
+
+        RaceCoordinator<T> parent = new RaceCoordinator<T>(observer, n);
+
+        observer.onSubscribe(parent);
+
+        for (int i = 0; i < n; i++) {
+            if (parent.isDisposed()) {
+                return;
+            }
+            PromiseSource<? extends T> source = sources[i];
+
+            if (source == null) {
+                parent.innerError(ExceptionHelper.nullPointer("One of the sources is null"), i);
+                return;
+            }
+
+            source.subscribe(parent.observers[i]);
+        }
+    }
+
+    static final class RaceCoordinator<T> extends AtomicBoolean implements Disposable {
+
+        private static final long serialVersionUID = -7044685185359438206L;
+
+        final Observer<? super T> actual;
+
+        final RaceObserver<T>[] observers;
+
+        RaceCoordinator(Observer<? super T> actual, int n) {
+            this.actual = actual;
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            RaceObserver<T>[] o = new RaceObserver[n];
+            for (int i = 0; i < n; i++) {
+                o[i] = new RaceObserver<T>(this, i);
+            }
+            this.observers = o;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                disposeExcept(-1);
+            }
+        }
+
+        void disposeExcept(int index) {
+            RaceObserver<T>[] observers = this.observers;
+            for (int i = 0; i < observers.length; i++) {
+                if (i != index) {
+                    observers[i].dispose();
+                }
+            }
+        }
+
+        void innerSuccess(T value, int index) {
+            if (compareAndSet(false, true)) {
+                disposeExcept(index);
+                actual.onComplete(value);
+            }
+        }
+
+        void innerError(Throwable ex, int index) {
+            if (compareAndSet(false, true)) {
+                disposeExcept(index);
+                actual.onError(ex);
+            } else {
+                PromisePlugins.onError(ex);
+            }
+        }
+    }
+
+    static final class RaceObserver<T> extends AtomicReference<Disposable> implements Observer<T> {
+
+        private static final long serialVersionUID = 1541961263237525787L;
+
+        final RaceCoordinator<T> parent;
+
+        final int index;
+
+        RaceObserver(RaceCoordinator<T> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onComplete(T value) {
+            parent.innerSuccess(value, index);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e, index);
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.CompositeException;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+import com.smontiel.promise.internal.schedulers.HashedWheelTimer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Resubscribes to the upstream when it fails, at most the given number of times and as long as
+ * the predicate accepts the error, optionally waiting an exponentially growing delay in between.
+ * <p>
+ * Immediate retries run in a trampolining loop, so a source that fails synchronously doesn't grow
+ * the stack. Delays are kept by the shared {@link HashedWheelTimer} and the resubscription is then
+ * handed to the Scheduler; no thread waits for the delay. Each retry is reported to
+ * {@link PromisePlugins#onRetry(Promise, int)}.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseRetry<T> extends AbstractPromiseWithUpstream<T, T> {
+    final long times;
+
+    final Predicate<? super Throwable> predicate;
+
+    /** The delay before the first retry in nanoseconds, zero for immediate retries. */
+    final long initialDelay;
+
+    /** The upper bound of the delay in nanoseconds. */
+    final long maxDelay;
+
+    final double multiplier;
+
+    final double jitter;
+
+    final Scheduler scheduler;
+
+    public PromiseRetry(PromiseSource<T> source, long times, Predicate<? super Throwable> predicate) {
+        this(source, times, predicate, 0L, 0L, 1d, 0d, null);
+    }
+
+    public PromiseRetry(PromiseSource<T> source, long times, Predicate<? super Throwable> predicate,
+                 long initialDelay, long maxDelay, double multiplier, double jitter, Scheduler scheduler) {
+        super(source);
+        this.times = times;
+        this.predicate = predicate;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        RetryObserver<T> parent = new RetryObserver<T>(s, this);
+        s.onSubscribe(parent);
+        parent.subscribeNext();
+    }
+
+    /**
+     * Computes the delay before the given retry: the initial delay multiplied by the multiplier
+     * for each previous retry, capped to the maximum, then reduced by a random share of up to
+     * {@code jitter} so that clients failing together don't retry together.
+     * @param attempt the number of the retry, starting at 1
+     * @return the delay in nanoseconds
+     */
+    long delayFor(long attempt) {
+        double delay = initialDelay * Math.pow(multiplier, attempt - 1);
+        if (delay > maxDelay) {
+            delay = maxDelay;
+        }
+        if (jitter > 0d) {
+            delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long)delay;
+    }
+
+    static final class RetryObserver<T> extends AtomicInteger implements Observer<T>, Disposable, Runnable {
+
+        private static final long serialVersionUID = -7098360935104053232L;
+
+        final Observer<? super T> actual;
+
+        final PromiseRetry<T> parent;
+
+        /** The current upstream, or the pending backoff between two subscriptions. */
+        final AtomicReference<Disposable> upstream;
+
+        /** Counts up to {@code times}, which is Long.MAX_VALUE for the unbounded variants. */
+        long retries;
+
+        RetryObserver(Observer<? super T> actual, PromiseRetry<T> parent) {
+            this.actual = actual;
+            this.parent = parent;
+            this.upstream = new AtomicReference<Disposable>();
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.replace(upstream, d);
+        }
+
+        @Override
+        public void onComplete(T t) {
+            actual.onComplete(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            PromiseRetry<T> p = parent;
+            boolean b;
+            try {
+                b = retries < p.times && p.predicate.test(e);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                actual.onError(new CompositeException(e, ex));
+                return;
+            }
+            if (!b) {
+                actual.onError(e);
+                return;
+            }
+            long attempt = ++retries;
+            PromisePlugins.onRetry(p, (int)Math.min(attempt, Integer.MAX_VALUE));
+            if (p.initialDelay == 0L) {
+                subscribeNext();
+            } else {
+                BackoffTimeout timeout = new BackoffTimeout(this, p.scheduler);
+                if (DisposableHelper.replace(upstream, timeout)) {
+                    HashedWheelTimer.shared().schedule(timeout, p.delayFor(attempt), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            subscribeNext();
+        }
+
+        void subscribeNext() {
+            if (getAndIncrement() == 0) {
+                int missed = 1;
+                for (;;) {
+                    if (isDisposed()) {
+                        return;
+                    }
+                    parent.source.subscribe(this);
+
+                    missed = addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(upstream);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream.get());
+        }
+    }
+
+    /**
+     * Waits out one backoff delay, then hands the resubscription to the Scheduler.
+     */
+    static final class BackoffTimeout extends HashedWheelTimer.Timeout implements Disposable {
+
+        private static final long serialVersionUID = 2930464281093585447L;
+
+        final Runnable resubscribe;
+
+        final Scheduler scheduler;
+
+        volatile Disposable task;
+
+        volatile boolean disposed;
+
+        BackoffTimeout(Runnable resubscribe, Scheduler scheduler) {
+            this.resubscribe = resubscribe;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        protected void expire() {
+            Disposable d = scheduler.scheduleDirect(resubscribe);
+            task = d;
+            if (disposed) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            cancel();
+            Disposable d = task;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+import com.smontiel.promise.internal.fuseable.ScalarCallable;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+
+/**
+ * Applies a function to the outcome of a {@link ScalarCallable} source when subscribed,
+ * without subscribing to the source or allocating an Observer for it.
+ * <p>
+ * The node is itself a ScalarCallable, so a chain of {@code then} calls on a constant source
+ * stays a chain of these nodes, evaluated in a loop however long it is.
+ * @param <T> the source value type
+ * @param <R> the result value type
+ */
+public final class PromiseScalarThen<T, R> extends Promise<R> implements ScalarCallable<R> {
+    final ScalarCallable<T> source;
+    final Function<? super T, ? extends R> mapper;
+
+    PromiseScalarThen(ScalarCallable<T> source, Function<? super T, ? extends R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Applies the mapper to the scalar source, lazily.
+     * <p>
+     * An error source is returned as-is since the mapper would never run.
+     * @param <T> the source value type
+     * @param <R> the result value type
+     * @param source the scalar source
+     * @param mapper the function to apply, not null
+     * @return the new Promise instance
+     */
+    public static <T, R> Promise<R> fuse(ScalarCallable<T> source, Function<? super T, ? extends R> mapper) {
+        if (source instanceof PromiseError) {
+            return ((PromiseError<T>)source).cast();
+        }
+        return PromisePlugins.onAssembly(new PromiseScalarThen<T, R>(source, mapper));
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> s) {
+        s.onSubscribe(EmptyDisposable.INSTANCE);
+        R v;
+        try {
+            v = call();
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            s.onError(ex);
+            return;
+        }
+        s.onComplete(v);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public R call() {
+        ScalarCallable<T> c = source;
+        if (!(c instanceof PromiseScalarThen)) {
+            return ObjectHelper.requireNonNull(mapper.apply(c.call()), "The mapper function returned a null value.");
+        }
+        // a long run of nodes: evaluate from the innermost in a loop instead of recursing through call()
+        ArrayList<PromiseScalarThen> nodes = new ArrayList<PromiseScalarThen>();
+        nodes.add(this);
+        ScalarCallable inner = c;
+        while (inner instanceof PromiseScalarThen) {
+            PromiseScalarThen node = (PromiseScalarThen)inner;
+            nodes.add(node);
+            inner = node.source;
+        }
+        Object v = inner.call();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            v = ObjectHelper.requireNonNull(nodes.get(i).mapper.apply(v), "The mapper function returned a null value.");
+        }
+        return (R)v;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Subscribes to the upstream PromiseSource on the specified Scheduler.
+ * @param <T> the value type
+ */
+public final class PromiseSubscribeOn<T> extends AbstractPromiseWithUpstream<T, T> {
+    final Scheduler scheduler;
+
+    public PromiseSubscribeOn(PromiseSource<T> source, Scheduler scheduler) {
+        super(source);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribeActual(final Observer<? super T> s) {
+        final SubscribeOnObserver<T> parent = new SubscribeOnObserver<T>(s);
+
+        s.onSubscribe(parent);
+
+        parent.setDisposable(scheduler.scheduleDirect(new SubscribeTask<T>(source, parent)));
+    }
+
+    /**
+     * Holds the scheduled subscription task in itself and the upstream Disposable in {@link #s};
+     * disposing cancels whichever of the two is current.
+     * @param <T> the value type
+     */
+    static final class SubscribeOnObserver<T> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+
+        private static final long serialVersionUID = 8094547886072529208L;
+        final Observer<? super T> actual;
+
+        final AtomicReference<Disposable> s;
+
+        SubscribeOnObserver(Observer<? super T> actual) {
+            this.actual = actual;
+            this.s = new AtomicReference<Disposable>();
+        }
+
+        @Override
+        public void onSubscribe(Disposable s) {
+            DisposableHelper.setOnce(this.s, s);
+        }
+
+        @Override
+        public void onComplete(T t) {
+            actual.onComplete(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            actual.onError(t);
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(s);
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+
+        void setDisposable(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+    }
+
+    static final class SubscribeTask<T> implements Runnable {
+        final PromiseSource<T> source;
+        final Observer<? super T> observer;
+
+        SubscribeTask(PromiseSource<T> source, Observer<? super T> observer) {
+            this.source = source;
+            this.observer = observer;
+        }
+
+        @Override
+        public void run() {
+            source.subscribe(observer);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Maps the value of the upstream to a PromiseSource and relays the outcome of that source.
+ * <p>
+ * The inner source is subscribed to right away on the thread that delivered the value, without
+ * going through a Scheduler.
+ *
+ * @param <T> the upstream value type
+ * @param <R> the result value type
+ */
+public final class PromiseThenCompose<T, R> extends AbstractPromiseWithUpstream<T, R> {
+    final Function<? super T, ? extends PromiseSource<? extends R>> mapper;
+
+    public PromiseThenCompose(PromiseSource<T> source, Function<? super T, ? extends PromiseSource<? extends R>> mapper) {
+        super(source);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> s) {
+        source.subscribe(new ThenComposeObserver<T, R>(s, mapper));
+    }
+
+    static final class ThenComposeObserver<T, R> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+
+        private static final long serialVersionUID = -5843758257109742742L;
+
+        final Observer<? super R> actual;
+
+        final Function<? super T, ? extends PromiseSource<? extends R>> mapper;
+
+        ThenComposeObserver(Observer<? super R> actual, Function<? super T, ? extends PromiseSource<? extends R>> mapper) {
+            this.actual = actual;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.setOnce(this, d)) {
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(T value) {
+            PromiseSource<? extends R> o;
+
+            try {
+                o = ObjectHelper.requireNonNull(mapper.apply(value), "The mapper returned a null PromiseSource");
+            } catch (Throwable e) {
+                Exceptions.throwIfFatal(e);
+                actual.onError(e);
+                return;
+            }
+
+            if (!isDisposed()) {
+                o.subscribe(new InnerObserver<R>(this, actual));
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+
+    static final class InnerObserver<R> implements Observer<R> {
+
+        final AtomicReference<Disposable> parent;
+
+        final Observer<? super R> actual;
+
+        InnerObserver(AtomicReference<Disposable> parent, Observer<? super R> actual) {
+            this.parent = parent;
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.replace(parent, d);
+        }
+
+        @Override
+        public void onComplete(R value) {
+            actual.onComplete(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+    }
+}
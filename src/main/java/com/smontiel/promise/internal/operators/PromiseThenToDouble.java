@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.DoubleObserver;
+import com.smontiel.promise.DoublePromise;
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Applies a function to the value of the upstream Promise and signals the {@code double} result.
+ * @param <T> the source value type
+ */
+public final class PromiseThenToDouble<T> extends DoublePromise {
+    final PromiseSource<T> source;
+
+    final ToDoubleFunction<? super T> mapper;
+
+    public PromiseThenToDouble(PromiseSource<T> source, ToDoubleFunction<? super T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver s) {
+        source.subscribe(new ThenToDoubleObserver<T>(s, mapper));
+    }
+
+    static final class ThenToDoubleObserver<T> implements Observer<T>, Disposable {
+        final DoubleObserver actual;
+
+        final ToDoubleFunction<? super T> mapper;
+
+        Disposable s;
+
+        boolean done;
+
+        ThenToDoubleObserver(DoubleObserver actual, ToDoubleFunction<? super T> mapper) {
+            this.actual = actual;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(s, d)) {
+                s = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onComplete(T value) {
+            if (done) {
+                return;
+            }
+            done = true;
+            s = DisposableHelper.DISPOSED;
+            double v;
+            try {
+                v = mapper.applyAsDouble(value);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                actual.onError(ex);
+                return;
+            }
+            actual.onComplete(v);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                PromisePlugins.onError(e);
+                return;
+            }
+            done = true;
+            s = DisposableHelper.DISPOSED;
+            actual.onError(e);
+        }
+
+        @Override
+        public void dispose() {
+            s.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return s.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+import com.smontiel.promise.internal.schedulers.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Signals a {@link TimeoutException}, or switches to a fallback source, if the upstream doesn't
+ * settle within the given time.
+ * <p>
+ * The Observer is itself the node scheduled on the {@link HashedWheelTimer}, so a timeout that
+ * doesn't fire costs one CAS to schedule and one to cancel, and no allocation beyond the Observer.
+ * Whichever of the upstream signal and the timer wins the single state change of the node gets
+ * through; when the timer wins, the upstream is disposed and the outcome is delivered on the
+ * given Scheduler instead of the timer thread.
+ *
+ * @param <T> the value type
+ */
+public final class PromiseTimeout<T> extends AbstractPromiseWithUpstream<T, T> {
+    final long timeout;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    final PromiseSource<? extends T> other;
+
+    public PromiseTimeout(PromiseSource<T> source, long timeout, TimeUnit unit, Scheduler scheduler,
+                          PromiseSource<? extends T> other) {
+        super(source);
+        this.timeout = timeout;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.other = other;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> s) {
+        TimeoutObserver<T> parent = new TimeoutObserver<T>(s, timeout, unit, scheduler, other);
+        s.onSubscribe(parent);
+
+        HashedWheelTimer.shared().schedule(parent, timeout, unit);
+
+        source.subscribe(parent);
+    }
+
+    static final class TimeoutObserver<T> extends HashedWheelTimer.Timeout
+    implements Observer<T>, Disposable, Runnable {
+
+        private static final long serialVersionUID = 2071387740092105509L;
+
+        final Observer<? super T> actual;
+
+        final long timeout;
+
+        final TimeUnit unit;
+
+        final Scheduler scheduler;
+
+        final PromiseSource<? extends T> other;
+
+        volatile Disposable upstream;
+
+        volatile TimeoutFallbackObserver<T> fallback;
+
+        volatile boolean disposed;
+
+        TimeoutObserver(Observer<? super T> actual, long timeout, TimeUnit unit, Scheduler scheduler,
+                        PromiseSource<? extends T> other) {
+            this.actual = actual;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.scheduler = scheduler;
+            this.other = other;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (!isWaiting()) {
+                // timed out or disposed in the meantime
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onComplete(T t) {
+            if (cancel()) {
+                upstream = DisposableHelper.DISPOSED;
+                actual.onComplete(t);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (cancel()) {
+                upstream = DisposableHelper.DISPOSED;
+                actual.onError(e);
+            } else {
+                PromisePlugins.onError(e);
+            }
+        }
+
+        @Override
+        protected void expire() {
+            disposeUpstream();
+            scheduler.scheduleDirect(this);
+        }
+
+        @Override
+        public void run() {
+            if (disposed) {
+                return;
+            }
+            PromiseSource<? extends T> other = this.other;
+            if (other == null) {
+                actual.onError(new TimeoutException("The source did not signal an event for " + timeout + " "
+                        + unit.toString().toLowerCase() + " and has been terminated."));
+            } else {
+                TimeoutFallbackObserver<T> f = new TimeoutFallbackObserver<T>(actual);
+                fallback = f;
+                if (disposed) {
+                    return;
+                }
+                other.subscribe(f);
+            }
+        }
+
+        void disposeUpstream() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            cancel();
+            disposeUpstream();
+            TimeoutFallbackObserver<T> f = fallback;
+            if (f != null) {
+                DisposableHelper.dispose(f);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class TimeoutFallbackObserver<T> extends AtomicReference<Disposable> implements Observer<T> {
+
+        private static final long serialVersionUID = -5955289211445418871L;
+
+        final Observer<? super T> actual;
+
+        TimeoutFallbackObserver(Observer<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onComplete(T t) {
+            actual.onComplete(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.schedulers.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signals {@code 0L} after the given delay.
+ * <p>
+ * The delay is kept by the shared {@link HashedWheelTimer}, no thread waits for it; once it
+ * elapsed the signal is handed to the Scheduler, through {@link com.smontiel.promise.internal.PromisePlugins#onSchedule
+ * PromisePlugins.onSchedule}.
+ */
+public final class PromiseTimer extends Promise<Long> {
+    final long delay;
+
+    final TimeUnit unit;
+
+    final Scheduler scheduler;
+
+    public PromiseTimer(long delay, TimeUnit unit, Scheduler scheduler) {
+        this.delay = delay;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Long> s) {
+        TimerDisposable parent = new TimerDisposable(s, scheduler);
+        s.onSubscribe(parent);
+        if (delay <= 0L) {
+            parent.expire();
+        } else {
+            HashedWheelTimer.shared().schedule(parent, delay, unit);
+        }
+    }
+
+    static final class TimerDisposable extends HashedWheelTimer.Timeout implements Disposable, Runnable {
+
+        private static final long serialVersionUID = 8465401857522493246L;
+
+        final Observer<? super Long> actual;
+
+        final Scheduler scheduler;
+
+        volatile Disposable task;
+
+        volatile boolean disposed;
+
+        TimerDisposable(Observer<? super Long> actual, Scheduler scheduler) {
+            this.actual = actual;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        protected void expire() {
+            Disposable d = scheduler.scheduleDirect(this);
+            task = d;
+            if (disposed) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!disposed) {
+                actual.onComplete(0L);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            cancel();
+            Disposable d = task;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
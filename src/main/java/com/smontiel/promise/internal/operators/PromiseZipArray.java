@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.PromiseSource;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ExceptionHelper;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Waits for every source to succeed and combines their values, or fails with the first error.
+ * <p>
+ * The values are written into an array allocated up front and completion is tracked by a
+ * single atomic countdown: the source that brings it to zero calls the zipper, an error
+ * drops it to zero at once so later signals are ignored and the sources still running are disposed.
+ *
+ * @param <T> the common source value type
+ * @param <R> the result type
+ */
+public final class PromiseZipArray<T, R> extends Promise<R> {
+
+    final PromiseSource<? extends T>[] sources;
+
+    final Function<? super Object[], ? extends R> zipper;
+
+    public PromiseZipArray(PromiseSource<? extends T>[] sources, Function<? super Object[], ? extends R> zipper) {
+        this.sources = sources;
+        this.zipper = zipper;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        PromiseSource<? extends T>[] sources = this.sources;
+        int n = sources.length;
+
+        ZipCoordinator<T, R> parent = new ZipCoordinator<T, R>(observer, n, zipper);
+
+        observer.onSubscribe(parent);
+
+        for (int i = 0; i < n; i++) {
+            if (parent.isDone()) {
+                return;
+            }
+            PromiseSource<? extends T> source = sources[i];
+
+            if (source == null) {
+                parent.innerError(ExceptionHelper.nullPointer("One of the sources is null"), i);
+                return;
+            }
+
+            source.subscribe(parent.observers[i]);
+        }
+    }
+
+    static final class ZipCoordinator<T, R> extends AtomicInteger implements Disposable {
+
+        private static final long serialVersionUID = -5556924161382950569L;
+
+        final Observer<? super R> actual;
+
+        final Function<? super Object[], ? extends R> zipper;
+
+        final ZipObserver<T>[] observers;
+
+        final Object[] values;
+
+        ZipCoordinator(Observer<? super R> observer, int n, Function<? super Object[], ? extends R> zipper) {
+            super(n);
+            this.actual = observer;
+            this.zipper = zipper;
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            ZipObserver<T>[] o = new ZipObserver[n];
+            for (int i = 0; i < n; i++) {
+                o[i] = new ZipObserver<T>(this, i);
+            }
+            this.observers = o;
+            this.values = new Object[n];
+        }
+
+        boolean isDone() {
+            return get() <= 0;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return isDone();
+        }
+
+        @Override
+        public void dispose() {
+            if (getAndSet(0) > 0) {
+                disposeExcept(-1);
+            }
+        }
+
+        void disposeExcept(int index) {
+            ZipObserver<T>[] observers = this.observers;
+            for (int i = 0; i < observers.length; i++) {
+                if (i != index) {
+                    observers[i].dispose();
+                }
+            }
+        }
+
+        void innerSuccess(T value, int index) {
+            values[index] = value;
+            if (decrementAndGet() == 0) {
+                R v;
+
+                try {
+                    v = ObjectHelper.requireNonNull(zipper.apply(values), "The zipper returned a null value");
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    actual.onError(ex);
+                    return;
+                }
+
+                actual.onComplete(v);
+            }
+        }
+
+        void innerError(Throwable ex, int index) {
+            if (getAndSet(0) > 0) {
+                disposeExcept(index);
+                actual.onError(ex);
+            } else {
+                PromisePlugins.onError(ex);
+            }
+        }
+    }
+
+    static final class ZipObserver<T> extends AtomicReference<Disposable> implements Observer<T> {
+
+        private static final long serialVersionUID = 3323743579927613702L;
+
+        final ZipCoordinator<T, ?> parent;
+
+        final int index;
+
+        ZipObserver(ZipCoordinator<T, ?> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onComplete(T value) {
+            parent.innerSuccess(value, index);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e, index);
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(this);
+        }
+    }
+}
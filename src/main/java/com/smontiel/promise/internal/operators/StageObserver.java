@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.operators;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.Functions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.DisposableHelper;
+
+import java.util.ArrayDeque;
+
+/**
+ * Base Observer of the {@link AbstractStagePromise} stages.
+ * <p>
+ * {@code onSubscribe}, the terminal signals, {@code dispose} and {@code isDisposed} don't call
+ * into the next StageObserver but step to it in a loop, so a run of stages of any length costs
+ * a constant number of stack frames. A stage's {@link #afterTerminate() after-terminate action}
+ * has to run once the downstream handled the signal; such actions are kept on a stack that is
+ * only allocated if a stage has one.
+ *
+ * @param <T> the input value type
+ * @param <U> the output value type
+ */
+abstract class StageObserver<T, U> implements Observer<T>, Disposable {
+    /** The downstream subscriber. */
+    final Observer<? super U> actual;
+
+    /** The upstream Disposable, swapped for DISPOSED on termination so the upstream can be collected. */
+    Disposable s;
+
+    /** Flag indicating no further onXXX event should be accepted. */
+    boolean done;
+
+    /** Where the stage was assembled if assembly tracking sampled it, added to the errors passing through. */
+    StackTraceElement assemblySite;
+
+    StageObserver(Observer<? super U> actual) {
+        this.actual = actual;
+    }
+
+    /**
+     * Transforms the value of this stage.
+     * @param t the upstream value
+     * @return the value to signal downstream
+     */
+    abstract U apply(T t);
+
+    /**
+     * Transforms the error of this stage, also called when {@link #apply} failed.
+     * @param e the error
+     * @return the error to signal downstream
+     */
+    Throwable applyError(Throwable e) {
+        return e;
+    }
+
+    /**
+     * Returns the action to run once the downstream handled the signal of this stage.
+     * @return the action, {@link Functions#EMPTY_RUNNABLE} if none
+     */
+    Runnable afterTerminate() {
+        return Functions.EMPTY_RUNNABLE;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public final void onSubscribe(Disposable d) {
+        StageObserver stage = this;
+        for (;;) {
+            if (!DisposableHelper.validate(stage.s, d)) {
+                return;
+            }
+            stage.s = d;
+            Observer next = stage.actual;
+            if (!(next instanceof StageObserver)) {
+                next.onSubscribe(stage);
+                return;
+            }
+            d = stage;
+            stage = (StageObserver)next;
+        }
+    }
+
+    @Override
+    public final void onComplete(T t) {
+        if (done) {
+            return;
+        }
+        deliver(t, null);
+    }
+
+    @Override
+    public final void onError(Throwable e) {
+        if (done) {
+            PromisePlugins.onError(e);
+            return;
+        }
+        deliver(null, e);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    final void deliver(Object value, Throwable error) {
+        ArrayDeque<Runnable> after = null;
+        StageObserver stage = this;
+        for (;;) {
+            stage.done = true;
+            stage.s = DisposableHelper.DISPOSED;
+            if (error == null) {
+                try {
+                    value = stage.apply(value);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    error = ex;
+                }
+            }
+            if (error != null) {
+                if (stage.assemblySite != null) {
+                    AssemblyTracker.attach(error, stage.assemblySite);
+                }
+                error = stage.applyError(error);
+            }
+            Runnable r = stage.afterTerminate();
+            if (r != Functions.EMPTY_RUNNABLE) {
+                if (after == null) {
+                    after = new ArrayDeque<Runnable>();
+                }
+                after.push(r);
+            }
+
+            Observer next = stage.actual;
+            if (next instanceof StageObserver && !((StageObserver)next).done) {
+                stage = (StageObserver)next;
+                continue;
+            }
+            if (error == null) {
+                next.onComplete(value);
+            } else {
+                next.onError(error);
+            }
+            break;
+        }
+
+        if (after != null) {
+            Runnable r;
+            while ((r = after.poll()) != null) {
+                try {
+                    r.run();
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    PromisePlugins.onError(ex);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public final void dispose() {
+        StageObserver stage = this;
+        for (;;) {
+            Disposable d = stage.s;
+            stage.s = DisposableHelper.DISPOSED;
+            if (!(d instanceof StageObserver)) {
+                if (d != null) {
+                    d.dispose();
+                }
+                return;
+            }
+            stage = (StageObserver)d;
+        }
+    }
+
+    @Override
+    public final boolean isDisposed() {
+        Disposable d = s;
+        while (d instanceof StageObserver) {
+            d = ((StageObserver<?, ?>)d).s;
+        }
+        return d != null && d.isDisposed();
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.queue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An unbounded multi-producer single-consumer linked queue, after Dmitry Vyukov's intrusive MPSC node queue.
+ * <p>
+ * Offering swaps the tail node atomically and links the previous one, without locks or CAS loops;
+ * polling only reads and moves the consumer's own head. {@link #poll()} and {@link #isEmpty()} may
+ * only be called from the single consumer thread.
+ *
+ * @param <T> the element type
+ */
+public final class MpscLinkedQueue<T> {
+    /** The last node, swapped by the producers. */
+    final AtomicReference<Node<T>> tail;
+
+    /** The node before the first element, only touched by the consumer. */
+    Node<T> head;
+
+    public MpscLinkedQueue() {
+        Node<T> stub = new Node<T>(null);
+        head = stub;
+        tail = new AtomicReference<Node<T>>(stub);
+    }
+
+    /**
+     * Appends the element; may be called from any thread.
+     * @param value the element, not null
+     */
+    public void offer(T value) {
+        Node<T> n = new Node<T>(value);
+        Node<T> prev = tail.getAndSet(n);
+        prev.lazySet(n);
+    }
+
+    /**
+     * Removes and returns the first element, null if the queue is empty; consumer thread only.
+     * <p>
+     * An element whose producer swapped the tail but didn't link it yet is waited for, so null
+     * really means empty.
+     * @return the first element or null
+     */
+    public T poll() {
+        Node<T> h = head;
+        Node<T> next = h.get();
+        if (next == null) {
+            if (h == tail.get()) {
+                return null;
+            }
+            while ((next = h.get()) == null) {
+                // the producer is between the swap and the link
+            }
+        }
+        T v = next.value;
+        next.value = null;
+        head = next;
+        return v;
+    }
+
+    /**
+     * Returns true if no element is queued; consumer thread only.
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return head == tail.get();
+    }
+
+    /**
+     * Removes all elements; consumer thread only.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // drop
+        }
+    }
+
+    static final class Node<T> extends AtomicReference<Node<T>> {
+
+        private static final long serialVersionUID = 2404266111789071508L;
+
+        T value;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
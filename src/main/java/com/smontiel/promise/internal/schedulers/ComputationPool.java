@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Holds the work-stealing ForkJoinPool backing {@link com.smontiel.promise.schedulers.Schedulers#computation()
+ * Schedulers.computation()} and the parallel operators, created on first use with
+ * {@code promise.computation.threads} threads (defaults to {@code availableProcessors}).
+ */
+public final class ComputationPool {
+
+    /** Utility class. */
+    private ComputationPool() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    static final class Holder {
+        static final ForkJoinPool POOL = SchedulerPoolFactory.createForkJoinPool(
+                Math.max(1, Integer.getInteger("promise.computation.threads", Runtime.getRuntime().availableProcessors())),
+                "PromiseComputationScheduler-");
+    }
+
+    /**
+     * Returns the shared computation ForkJoinPool.
+     * @return the ForkJoinPool
+     */
+    public static ForkJoinPool instance() {
+        return Holder.POOL;
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+import com.smontiel.promise.internal.queue.MpscLinkedQueue;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed set of event loops, each a single thread draining its own lock-free
+ * {@link MpscLinkedQueue}, so handing a task over never takes a lock.
+ * <p>
+ * Every {@link Worker} is pinned to one loop, picked round-robin when it is created: all the work
+ * of a Worker, say the continuations of one connection, runs on that loop's thread in order.
+ * Direct tasks go to the loops round-robin as well. A loop thread is started on its first task and
+ * parks while its queue is empty. Delays are kept by the shared {@link HashedWheelTimer}, with a
+ * precision of one tick.
+ * <p>
+ * The loop threads must not block: blocking one delays every task queued behind it.
+ */
+public final class EventLoopScheduler extends Scheduler {
+    final EventLoop[] loops;
+
+    final AtomicInteger index = new AtomicInteger();
+
+    public EventLoopScheduler(int loopCount, ThreadFactory threadFactory) {
+        EventLoop[] a = new EventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            a[i] = new EventLoop(threadFactory);
+        }
+        loops = a;
+    }
+
+    EventLoop next() {
+        EventLoop[] a = loops;
+        return a[(index.getAndIncrement() & Integer.MAX_VALUE) % a.length];
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new EventLoopWorker(next());
+    }
+
+    @Override
+    public boolean isCurrentThread() {
+        for (EventLoop loop : loops) {
+            if (loop.isCurrentThread()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run) {
+        ExecutorScheduler.BooleanRunnable task = new ExecutorScheduler.BooleanRunnable(PromisePlugins.onSchedule(run));
+        if (!next().execute(task)) {
+            return EmptyDisposable.INSTANCE;
+        }
+        return task;
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run, long delay, TimeUnit unit) {
+        if (delay <= 0L) {
+            return scheduleDirect(run);
+        }
+        DelayedTask task = new DelayedTask(next(), PromisePlugins.onSchedule(run), null);
+        HashedWheelTimer.shared().schedule(task, delay, unit);
+        return task;
+    }
+
+    @Override
+    public void shutdown() {
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+
+    static final class EventLoop extends AtomicInteger implements Runnable {
+
+        private static final long serialVersionUID = -2287305547383616226L;
+
+        static final int RUNNING = 0;
+
+        static final int PARKED = 1;
+
+        final ThreadFactory threadFactory;
+
+        final MpscLinkedQueue<Runnable> queue = new MpscLinkedQueue<Runnable>();
+
+        /** The loop thread once started; set once. */
+        volatile Thread thread;
+
+        final AtomicInteger started = new AtomicInteger();
+
+        volatile boolean shutdown;
+
+        EventLoop(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+        }
+
+        /**
+         * Queues the task and wakes the loop up if it is parked.
+         * @return false if the loop was shut down
+         */
+        boolean execute(Runnable task) {
+            if (shutdown) {
+                return false;
+            }
+            queue.offer(task);
+            if (started.get() == 0 && started.compareAndSet(0, 1)) {
+                Thread t = threadFactory.newThread(this);
+                thread = t;
+                t.start();
+            } else if (get() == PARKED && compareAndSet(PARKED, RUNNING)) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        boolean isCurrentThread() {
+            return thread == Thread.currentThread();
+        }
+
+        void shutdown() {
+            shutdown = true;
+            Thread t = thread;
+            if (t != null) {
+                lazySet(RUNNING);
+                LockSupport.unpark(t);
+            }
+        }
+
+        @Override
+        public void run() {
+            final MpscLinkedQueue<Runnable> q = queue;
+            for (;;) {
+                if (shutdown) {
+                    q.clear();
+                    return;
+                }
+                Runnable r = q.poll();
+                if (r != null) {
+                    r.run();
+                    // a disposed fromCallable task interrupts its thread; don't let it leak into the loop
+                    Thread.interrupted();
+                    continue;
+                }
+                set(PARKED);
+                if (!q.isEmpty() || shutdown) {
+                    lazySet(RUNNING);
+                    continue;
+                }
+                LockSupport.park(this);
+                lazySet(RUNNING);
+            }
+        }
+    }
+
+    static final class EventLoopWorker extends Scheduler.Worker {
+        final EventLoop loop;
+
+        volatile boolean disposed;
+
+        EventLoopWorker(EventLoop loop) {
+            this.loop = loop;
+        }
+
+        @Override
+        public Disposable schedule(Runnable run) {
+            if (disposed) {
+                return EmptyDisposable.INSTANCE;
+            }
+            WorkerTask task = new WorkerTask(this, PromisePlugins.onSchedule(run));
+            if (!loop.execute(task)) {
+                return EmptyDisposable.INSTANCE;
+            }
+            return task;
+        }
+
+        @Override
+        public Disposable schedule(Runnable run, long delay, TimeUnit unit) {
+            if (delay <= 0L) {
+                return schedule(run);
+            }
+            if (disposed) {
+                return EmptyDisposable.INSTANCE;
+            }
+            DelayedTask task = new DelayedTask(loop, PromisePlugins.onSchedule(run), this);
+            HashedWheelTimer.shared().schedule(task, delay, unit);
+            return task;
+        }
+
+        @Override
+        public boolean isCurrentThread() {
+            return loop.isCurrentThread();
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    /**
+     * A task of a Worker: skipped if it or its Worker was disposed before it ran, so disposing
+     * a Worker needs no bookkeeping of its pending tasks.
+     */
+    static final class WorkerTask implements Runnable, Disposable {
+        final EventLoopWorker worker;
+
+        final Runnable actual;
+
+        volatile boolean disposed;
+
+        WorkerTask(EventLoopWorker worker, Runnable actual) {
+            this.worker = worker;
+            this.actual = actual;
+        }
+
+        @Override
+        public void run() {
+            if (disposed || (worker != null && worker.disposed)) {
+                return;
+            }
+            try {
+                actual.run();
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                PromisePlugins.onError(ex);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    /**
+     * A delayed task, waiting in the wheel timer and queued on its loop once due.
+     */
+    static final class DelayedTask extends HashedWheelTimer.Timeout implements Disposable {
+
+        private static final long serialVersionUID = 5925412604153389066L;
+
+        final EventLoop loop;
+
+        final WorkerTask task;
+
+        DelayedTask(EventLoop loop, Runnable actual, EventLoopWorker worker) {
+            this.loop = loop;
+            this.task = new WorkerTask(worker, actual);
+        }
+
+        @Override
+        protected void expire() {
+            loop.execute(task);
+        }
+
+        @Override
+        public void dispose() {
+            cancel();
+            task.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return task.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+import com.smontiel.promise.internal.disposables.EmptyDisposable;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps an Executor and provides the Scheduler API over it.
+ * <p>
+ * Direct tasks are handed to the Executor as-is; Workers serialize their tasks through
+ * a lock-free queue drained by a single Executor task at a time. Over a {@link ForkJoinPool}, work
+ * scheduled from one of the pool's threads stays on that thread's deque.
+ * Delayed tasks use the Executor itself if it is a {@link ScheduledExecutorService},
+ * otherwise a shared delay thread hands them over to the Executor when due.
+ */
+public final class ExecutorScheduler extends Scheduler {
+
+    final Executor executor;
+
+    /** Whether this scheduler owns the executor and should shut it down in {@link #shutdown()}. */
+    final boolean owned;
+
+    public ExecutorScheduler(Executor executor) {
+        this(executor, false);
+    }
+
+    public ExecutorScheduler(Executor executor, boolean owned) {
+        this.executor = executor;
+        this.owned = owned;
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new ExecutorWorker(this);
+    }
+
+    /**
+     * Recognizes the threads of a ForkJoinPool and of a ThreadPoolExecutor using a
+     * {@link PromiseThreadFactory}, like the standard schedulers; the threads of any other
+     * Executor are never considered current.
+     */
+    @Override
+    public boolean isCurrentThread() {
+        Executor e = executor;
+        if (e instanceof ForkJoinPool) {
+            return ForkJoinTask.getPool() == e;
+        }
+        if (e instanceof ThreadPoolExecutor) {
+            ThreadFactory f = ((ThreadPoolExecutor)e).getThreadFactory();
+            return f instanceof PromiseThreadFactory && ((PromiseThreadFactory)f).isCurrentThread();
+        }
+        return false;
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run) {
+        Runnable decoratedRun = PromisePlugins.onSchedule(run);
+        ScheduledDirectTask task = new ScheduledDirectTask(decoratedRun);
+        try {
+            Future<?> f = submit(task);
+            if (f != null) {
+                // keep the Future so disposing a pending task also removes it from the queue
+                task.setFuture(f);
+            }
+        } catch (RejectedExecutionException ex) {
+            PromisePlugins.onError(ex);
+            return EmptyDisposable.INSTANCE;
+        }
+        return task;
+    }
+
+    @Override
+    public Disposable scheduleDirect(Runnable run, long delay, TimeUnit unit) {
+        if (delay <= 0L) {
+            return scheduleDirect(run);
+        }
+        Runnable decoratedRun = PromisePlugins.onSchedule(run);
+        ScheduledDirectTask task = new ScheduledDirectTask(decoratedRun);
+        try {
+            scheduleTimed(task, delay, unit);
+        } catch (RejectedExecutionException ex) {
+            PromisePlugins.onError(ex);
+            return EmptyDisposable.INSTANCE;
+        }
+        return task;
+    }
+
+    /**
+     * Hands the task to the executor. On a worker thread of a ForkJoinPool executor the task is forked
+     * onto that worker's own deque, where it runs next unless an idle worker steals it, instead of
+     * going through the pool's shared submission queue.
+     * @return the Future of the task, null if the executor doesn't provide one
+     */
+    Future<?> submit(Runnable task) {
+        Executor executor = this.executor;
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinTask<?> t = ForkJoinTask.adapt(task);
+            if (ForkJoinTask.getPool() == executor) {
+                t.fork();
+            } else {
+                ((ForkJoinPool)executor).execute(t);
+            }
+            return t;
+        }
+        if (executor instanceof ExecutorService) {
+            return ((ExecutorService)executor).submit(task);
+        }
+        executor.execute(task);
+        return null;
+    }
+
+    /**
+     * Hands the already decorated task to the executor once the delay elapses.
+     */
+    void scheduleTimed(final ScheduledDirectTask task, long delay, TimeUnit unit) {
+        if (executor instanceof ScheduledExecutorService) {
+            task.setFuture(((ScheduledExecutorService)executor).schedule(task, delay, unit));
+        } else {
+            task.setFuture(DelayHolder.DELAYER.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        executor.execute(task);
+                    } catch (RejectedExecutionException ex) {
+                        PromisePlugins.onError(ex);
+                    }
+                }
+            }, delay, unit));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (owned && executor instanceof ExecutorService) {
+            ((ExecutorService)executor).shutdownNow();
+        }
+    }
+
+    /**
+     * Holds the single shared thread used for delaying tasks of plain Executors,
+     * created on first use only.
+     */
+    static final class DelayHolder {
+        static final ScheduledExecutorService DELAYER =
+                SchedulerPoolFactory.create(1, new PromiseThreadFactory("PromiseExecutorDelay-"), 0L);
+    }
+
+    /**
+     * Maximum number of tasks an {@link ExecutorWorker} runs before it gives its thread back to
+     * the executor and resubmits itself, so that a busy worker doesn't starve the others.
+     */
+    static final int DRAIN_BATCH = Math.max(1, Integer.getInteger("promise.worker.drain-batch", 128));
+
+    static final class ExecutorWorker extends Scheduler.Worker implements Runnable {
+        final ExecutorScheduler scheduler;
+
+        final ConcurrentLinkedQueue<BooleanRunnable> queue;
+
+        final AtomicInteger wip = new AtomicInteger();
+
+        volatile boolean disposed;
+
+        /** The thread running the drain loop, only ever compared against the current thread. */
+        Thread drainThread;
+
+        ExecutorWorker(ExecutorScheduler scheduler) {
+            this.scheduler = scheduler;
+            this.queue = new ConcurrentLinkedQueue<BooleanRunnable>();
+        }
+
+        @Override
+        public Disposable schedule(Runnable run) {
+            if (disposed) {
+                return EmptyDisposable.INSTANCE;
+            }
+            BooleanRunnable br = new BooleanRunnable(PromisePlugins.onSchedule(run));
+            enqueue(br);
+            return br;
+        }
+
+        @Override
+        public Disposable schedule(Runnable run, long delay, TimeUnit unit) {
+            if (delay <= 0L) {
+                return schedule(run);
+            }
+            if (disposed) {
+                return EmptyDisposable.INSTANCE;
+            }
+            final BooleanRunnable br = new BooleanRunnable(PromisePlugins.onSchedule(run));
+            try {
+                scheduler.scheduleTimed(new ScheduledDirectTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        enqueue(br);
+                    }
+                }), delay, unit);
+            } catch (RejectedExecutionException ex) {
+                disposed = true;
+                PromisePlugins.onError(ex);
+                return EmptyDisposable.INSTANCE;
+            }
+            return br;
+        }
+
+        void enqueue(BooleanRunnable br) {
+            queue.offer(br);
+            if (wip.getAndIncrement() == 0) {
+                execute();
+            }
+        }
+
+        void execute() {
+            try {
+                scheduler.submit(this);
+            } catch (RejectedExecutionException ex) {
+                disposed = true;
+                queue.clear();
+                PromisePlugins.onError(ex);
+            }
+        }
+
+        @Override
+        public boolean isCurrentThread() {
+            return drainThread == Thread.currentThread();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public void run() {
+            drainThread = Thread.currentThread();
+            try {
+                drain();
+            } finally {
+                drainThread = null;
+            }
+        }
+
+        /**
+         * Runs the queued tasks in batches of at most {@link #DRAIN_BATCH}; if more are left, the
+         * worker is resubmitted to the executor with its work-in-progress count untouched, so
+         * producers keep enqueueing without scheduling it again.
+         */
+        void drain() {
+            int missed = 1;
+            int emitted = 0;
+            final ConcurrentLinkedQueue<BooleanRunnable> q = queue;
+            for (;;) {
+
+                if (disposed) {
+                    q.clear();
+                    return;
+                }
+
+                for (;;) {
+                    if (emitted == DRAIN_BATCH) {
+                        execute();
+                        return;
+                    }
+                    BooleanRunnable run = q.poll();
+                    if (run == null) {
+                        break;
+                    }
+                    run.run();
+                    emitted++;
+
+                    if (disposed) {
+                        q.clear();
+                        return;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    static final class BooleanRunnable implements Runnable, Disposable {
+        final Runnable actual;
+
+        volatile boolean disposed;
+
+        BooleanRunnable(Runnable actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void run() {
+            if (disposed) {
+                return;
+            }
+            try {
+                actual.run();
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                PromisePlugins.onError(ex);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
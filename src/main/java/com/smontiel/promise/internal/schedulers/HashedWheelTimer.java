@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A timer that keeps its timeouts in a ring of buckets, one per tick, driven by a single thread.
+ * <p>
+ * Scheduling and cancelling are O(1) and allocate nothing: a {@link Timeout} is an intrusive
+ * node that carries its own links, and new and cancelled timeouts reach the timer thread
+ * through two lock-free stacks that the thread empties once per tick. The price is precision:
+ * a timeout expires on the first tick at or after its deadline, so up to one tick late.
+ * <p>
+ * The {@link #shared() shared} instance is created, and its daemon thread started, on first use.
+ * It can be tuned with the following system properties:
+ * <ul>
+ * <li>{@code promise.timer.tick-millis} (long): duration of a tick, defaults to 10</li>
+ * <li>{@code promise.timer.ticks-per-wheel} (int): number of buckets, rounded up to a power
+ * of 2, defaults to 512</li>
+ * </ul>
+ */
+public final class HashedWheelTimer {
+
+    static final class Holder {
+        static final HashedWheelTimer INSTANCE = new HashedWheelTimer(
+                new PromiseThreadFactory("PromiseWheelTimer-"),
+                Long.getLong("promise.timer.tick-millis", 10L), TimeUnit.MILLISECONDS,
+                Integer.getInteger("promise.timer.ticks-per-wheel", 512));
+    }
+
+    /**
+     * Returns the timer shared by every operator.
+     * @return the shared timer
+     */
+    public static HashedWheelTimer shared() {
+        return Holder.INSTANCE;
+    }
+
+    final long tickNanos;
+
+    final Bucket[] wheel;
+
+    final int mask;
+
+    final long startTime;
+
+    /** Timeouts scheduled since the last tick, linked through {@link Timeout#pendingNext}. */
+    final AtomicReference<Timeout> pending;
+
+    /** Timeouts cancelled since the last tick, linked through {@link Timeout#cancelledNext}. */
+    final AtomicReference<Timeout> cancelled;
+
+    /** Number of ticks elapsed; accessed by the timer thread only. */
+    long tick;
+
+    public HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        ObjectHelper.verifyPositive(tickDuration, "tickDuration");
+        ObjectHelper.verifyPositive(ticksPerWheel, "ticksPerWheel");
+        int n = 1;
+        while (n < ticksPerWheel) {
+            n <<= 1;
+        }
+        Bucket[] wheel = new Bucket[n];
+        for (int i = 0; i < n; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.wheel = wheel;
+        this.mask = n - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.pending = new AtomicReference<Timeout>();
+        this.cancelled = new AtomicReference<Timeout>();
+        this.startTime = System.nanoTime();
+        threadFactory.newThread(new Worker()).start();
+    }
+
+    /**
+     * Schedules the timeout to expire after the given delay.
+     * <p>
+     * A Timeout instance can be scheduled only once.
+     * @param timeout the timeout to schedule
+     * @param delay the delay, non-positive values expire on the next tick
+     * @param unit the time unit of the delay
+     */
+    public void schedule(Timeout timeout, long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(delay);
+        long deadline = System.nanoTime() - startTime + nanos;
+        if (nanos > 0L && deadline < 0L) {
+            // guard against overflow
+            deadline = Long.MAX_VALUE;
+        }
+        timeout.deadline = deadline;
+        timeout.timer = this;
+        for (;;) {
+            Timeout head = pending.get();
+            timeout.pendingNext = head;
+            if (pending.compareAndSet(head, timeout)) {
+                return;
+            }
+        }
+    }
+
+    void cancelled(Timeout timeout) {
+        for (;;) {
+            Timeout head = cancelled.get();
+            timeout.cancelledNext = head;
+            if (cancelled.compareAndSet(head, timeout)) {
+                return;
+            }
+        }
+    }
+
+    final class Worker implements Runnable {
+        @Override
+        public void run() {
+            for (;;) {
+                long now = waitForNextTick();
+                transferPending();
+                removeCancelled();
+                wheel[(int)(tick & mask)].expire(now);
+                tick++;
+            }
+        }
+
+        long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+            for (;;) {
+                long now = System.nanoTime() - startTime;
+                long sleepMillis = (deadline - now + 999999L) / 1000000L;
+                if (sleepMillis <= 0L) {
+                    return now;
+                }
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException ignored) {
+                    // the timer is shared and outlives any one user, keep ticking
+                }
+            }
+        }
+
+        void transferPending() {
+            Timeout t = pending.getAndSet(null);
+            while (t != null) {
+                Timeout next = t.pendingNext;
+                t.pendingNext = null;
+                if (t.get() == Timeout.WAITING) {
+                    long calculated = t.deadline / tickNanos;
+                    t.remainingRounds = (calculated - tick) / wheel.length;
+                    long ticks = Math.max(calculated, tick);
+                    wheel[(int)(ticks & mask)].add(t);
+                }
+                t = next;
+            }
+        }
+
+        void removeCancelled() {
+            Timeout t = cancelled.getAndSet(null);
+            while (t != null) {
+                Timeout next = t.cancelledNext;
+                t.cancelledNext = null;
+                Bucket b = t.bucket;
+                if (b != null) {
+                    b.remove(t);
+                }
+                t = next;
+            }
+        }
+    }
+
+    /**
+     * A doubly-linked list of the timeouts that fall on the same slot of the wheel.
+     * Accessed by the timer thread only.
+     */
+    static final class Bucket {
+        Timeout head;
+
+        Timeout tail;
+
+        void add(Timeout t) {
+            t.bucket = this;
+            if (head == null) {
+                head = tail = t;
+            } else {
+                tail.next = t;
+                t.prev = tail;
+                tail = t;
+            }
+        }
+
+        void remove(Timeout t) {
+            Timeout prev = t.prev;
+            Timeout next = t.next;
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            } else {
+                tail = prev;
+            }
+            t.prev = null;
+            t.next = null;
+            t.bucket = null;
+        }
+
+        void expire(long now) {
+            Timeout t = head;
+            while (t != null) {
+                Timeout next = t.next;
+                if (t.get() != Timeout.WAITING) {
+                    remove(t);
+                } else if (t.remainingRounds <= 0L) {
+                    remove(t);
+                    if (t.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                        try {
+                            t.expire();
+                        } catch (Throwable ex) {
+                            Exceptions.throwIfFatal(ex);
+                            PromisePlugins.onError(ex);
+                        }
+                    }
+                } else {
+                    t.remainingRounds--;
+                }
+                t = next;
+            }
+        }
+    }
+
+    /**
+     * A task scheduled on a {@link HashedWheelTimer}, meant to be extended by the object that
+     * needs the timeout so scheduling it allocates nothing else.
+     * <p>
+     * The state ({@link #WAITING}, {@link #EXPIRED} or {@link #CANCELLED}) changes only once, so
+     * {@link #cancel()} also decides whether the timeout or its competing event came first.
+     */
+    public abstract static class Timeout extends AtomicInteger {
+
+        private static final long serialVersionUID = -4374508297186787370L;
+
+        static final int WAITING = 0;
+
+        static final int EXPIRED = 1;
+
+        static final int CANCELLED = 2;
+
+        HashedWheelTimer timer;
+
+        /** Nanoseconds since the start of the timer. */
+        long deadline;
+
+        long remainingRounds;
+
+        Timeout prev;
+
+        Timeout next;
+
+        Bucket bucket;
+
+        Timeout pendingNext;
+
+        Timeout cancelledNext;
+
+        /**
+         * Called on the timer thread when the delay elapsed before {@link #cancel()}.
+         * <p>
+         * The timer thread is shared: implementations must be short and non-blocking and
+         * should hand further work off to a Scheduler.
+         */
+        protected abstract void expire();
+
+        /**
+         * Cancels the timeout if it neither expired nor was cancelled yet.
+         * @return true if this call cancelled the timeout
+         */
+        public final boolean cancel() {
+            if (compareAndSet(WAITING, CANCELLED)) {
+                HashedWheelTimer t = timer;
+                if (t != null) {
+                    t.cancelled(this);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if the timeout neither expired nor was cancelled yet.
+         * @return true if the timeout is still waiting
+         */
+        public final boolean isWaiting() {
+            return get() == WAITING;
+        }
+    }
+}
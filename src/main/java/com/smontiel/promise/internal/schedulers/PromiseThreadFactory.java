@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ThreadFactory that counts how many threads have been created and given a prefix,
+ * sets the created Thread's name to {@code prefix-count}.
+ */
+public final class PromiseThreadFactory extends AtomicLong implements ThreadFactory {
+
+    private static final long serialVersionUID = -7789753024099756196L;
+
+    final String prefix;
+
+    final int priority;
+
+    final boolean daemon;
+
+    public PromiseThreadFactory(String prefix) {
+        this(prefix, Thread.NORM_PRIORITY, true);
+    }
+
+    public PromiseThreadFactory(String prefix, int priority, boolean daemon) {
+        this.prefix = prefix;
+        this.priority = priority;
+        this.daemon = daemon;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread t = new PromiseThread(r, prefix + incrementAndGet(), this);
+        t.setPriority(priority);
+        t.setDaemon(daemon);
+        return t;
+    }
+
+    /**
+     * Returns true if the calling thread was created by this factory.
+     * @return true if called from one of this factory's threads
+     */
+    public boolean isCurrentThread() {
+        Thread t = Thread.currentThread();
+        return t instanceof PromiseThread && ((PromiseThread)t).factory == this;
+    }
+
+    @Override
+    public String toString() {
+        return "PromiseThreadFactory[" + prefix + "]";
+    }
+
+    /** A Thread that remembers the factory that created it. */
+    static final class PromiseThread extends Thread {
+        final PromiseThreadFactory factory;
+
+        PromiseThread(Runnable r, String name, PromiseThreadFactory factory) {
+            super(r, name);
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.exceptions.Exceptions;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A Runnable that can be disposed before it starts, in which case it is skipped,
+ * or while it is running, in which case the thread running it is interrupted.
+ * <p>
+ * The state is kept in the AtomicReference itself: {@code null} while waiting, the
+ * running Thread while executing, {@link #FINISHED} or {@link #DISPOSED} afterwards.
+ */
+public final class ScheduledDirectTask extends AtomicReference<Object> implements Runnable, Disposable {
+
+    private static final long serialVersionUID = 1811839108042568751L;
+
+    static final Object FINISHED = new Object();
+
+    static final Object DISPOSED = new Object();
+
+    static final Object INTERRUPTING = new Object();
+
+    final Runnable runnable;
+
+    /** The Future returned by the ExecutorService the task was submitted to, if any. */
+    volatile Future<?> future;
+
+    public ScheduledDirectTask(Runnable runnable) {
+        this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+        Thread current = Thread.currentThread();
+        if (!compareAndSet(null, current)) {
+            return;
+        }
+        try {
+            runnable.run();
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            PromisePlugins.onError(ex);
+        } finally {
+            if (!compareAndSet(current, FINISHED)) {
+                // disposed while running, don't let the interrupt leak into the next task of the pool
+                while (get() == INTERRUPTING) {
+                    Thread.yield();
+                }
+                Thread.interrupted();
+            }
+        }
+    }
+
+    public void setFuture(Future<?> f) {
+        future = f;
+        if (get() == DISPOSED) {
+            f.cancel(false);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (;;) {
+            Object o = get();
+            if (o == FINISHED || o == DISPOSED || o == INTERRUPTING) {
+                return;
+            }
+            if (o == null) {
+                if (compareAndSet(null, DISPOSED)) {
+                    Future<?> f = future;
+                    if (f != null) {
+                        f.cancel(false);
+                    }
+                    return;
+                }
+            } else {
+                if (o == Thread.currentThread()) {
+                    // disposing itself from within, no need to interrupt
+                    if (compareAndSet(o, DISPOSED)) {
+                        return;
+                    }
+                } else if (compareAndSet(o, INTERRUPTING)) {
+                    ((Thread)o).interrupt();
+                    lazySet(DISPOSED);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Object o = get();
+        return o == FINISHED || o == DISPOSED || o == INTERRUPTING;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Manages the creation of the long-lived, bounded pools backing the standard schedulers.
+ */
+public final class SchedulerPoolFactory {
+    /** Utility class. */
+    private SchedulerPoolFactory() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Creates a ScheduledThreadPoolExecutor with at most the given number of threads.
+     * <p>
+     * Threads are started lazily and, if {@code keepAliveSeconds} is positive, retired
+     * after being idle for that long so that a bounded pool does not pin its peak size forever.
+     * Cancelled delayed tasks are removed from the work queue right away.
+     * @param maxThreads the maximum number of threads, positive
+     * @param factory the thread factory to use
+     * @param keepAliveSeconds the idle time after which a thread is retired, non-positive keeps them forever
+     * @return the ScheduledThreadPoolExecutor
+     */
+    public static ScheduledThreadPoolExecutor create(int maxThreads, ThreadFactory factory, long keepAliveSeconds) {
+        ScheduledThreadPoolExecutor exec = new ScheduledThreadPoolExecutor(maxThreads, factory);
+        exec.setRemoveOnCancelPolicy(true);
+        if (keepAliveSeconds > 0L) {
+            exec.setKeepAliveTime(keepAliveSeconds, TimeUnit.SECONDS);
+            exec.allowCoreThreadTimeOut(true);
+        }
+        return exec;
+    }
+
+    /**
+     * Creates a work-stealing ForkJoinPool of the given parallelism whose daemon threads are named
+     * {@code prefix} followed by a counter.
+     * <p>
+     * The pool runs in LIFO mode: a task forked by a worker thread goes on that worker's own deque and
+     * is the next one it runs, while idle workers steal the oldest tasks of the others.
+     * @param parallelism the number of worker threads, positive
+     * @param prefix the thread name prefix
+     * @return the ForkJoinPool
+     */
+    public static ForkJoinPool createForkJoinPool(int parallelism, String prefix) {
+        return new ForkJoinPool(parallelism, new NamedForkJoinThreadFactory(prefix), null, false);
+    }
+
+    static final class NamedForkJoinThreadFactory extends AtomicLong implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private static final long serialVersionUID = 1904532720133419232L;
+
+        final String prefix;
+
+        NamedForkJoinThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName(prefix + incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.internal.schedulers;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Looks up the virtual thread API of Java 21+ without linking against it, so the
+ * library keeps running on the Java 8 baseline.
+ */
+public final class VirtualThreads {
+
+    /** Utility class. */
+    private VirtualThreads() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Creates an Executor that starts a new virtual thread for each task, named
+     * {@code prefix} followed by a counter.
+     * @param prefix the thread name prefix
+     * @return the Executor or null if the running JVM doesn't support virtual threads
+     */
+    public static Executor newThreadPerTaskExecutor(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            ThreadFactory factory = (ThreadFactory)Class.forName("java.lang.Thread$Builder")
+                    .getMethod("factory").invoke(builder);
+            Method newExecutor = Class.forName("java.util.concurrent.Executors")
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (Executor)newExecutor.invoke(null, factory);
+        } catch (Throwable ex) {
+            // pre-21 JVM or preview features are not enabled
+            return null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram of fixed size: one striped counter per power-of-two range of nanoseconds.
+ * <p>
+ * Bucket {@code 0} counts zero durations and bucket {@code i} the durations in {@code [2^(i-1), 2^i)}.
+ */
+final class LatencyHistogram {
+    static final int BUCKETS = 64;
+
+    final LongAdder[] buckets;
+
+    final LongAdder totalNanos;
+
+    LatencyHistogram() {
+        LongAdder[] b = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            b[i] = new LongAdder();
+        }
+        buckets = b;
+        totalNanos = new LongAdder();
+    }
+
+    void record(long nanos) {
+        if (nanos < 0L) {
+            nanos = 0L;
+        }
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+        totalNanos.add(nanos);
+    }
+
+    long[] counts() {
+        long[] c = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            c[i] = buckets[i].sum();
+        }
+        return c;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given quantile of the counts.
+     * @param counts the bucket counts
+     * @param quantile the quantile, between 0 and 1
+     * @return the upper bound in nanoseconds, 0 if nothing was recorded
+     */
+    static long quantile(long[] counts, double quantile) {
+        long total = 0L;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long)Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket == 0) {
+            return 0L;
+        }
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    void reset() {
+        for (LongAdder b : buckets) {
+            b.reset();
+        }
+        totalNanos.reset();
+    }
+}
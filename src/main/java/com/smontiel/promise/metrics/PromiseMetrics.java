@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.metrics;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.internal.PromisePlugins;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Counts the Promises assembled and subscribed, how their subscriptions ended, how many are in flight
+ * and how long they took to settle.
+ * <p>
+ * Nothing is measured until {@link #install()} is called: it chains the assembly and subscribe hooks
+ * of {@link PromisePlugins} in front of the ones already set. Every subscription made from outside the
+ * library, by an Observer, a blocking call or a callback, is then wrapped by an Observer that records
+ * its outcome, which costs two {@link System#nanoTime()} calls and one allocation per subscription. The
+ * subscriptions operators make to their upstream are neither counted nor wrapped, so a chain counts
+ * once however many stages it has, and consecutive {@code then}/{@code fail} stages stay stack-safe.
+ * <p>
+ * The counters are {@link LongAdder}s and the settle times go to a histogram of fixed size, so
+ * recording never locks and the memory used doesn't grow. The values can be read with
+ * {@link #snapshot()} or over JMX, once {@link #registerMBean() registered}.
+ *
+ * @since 0.3
+ */
+public final class PromiseMetrics implements PromiseMetricsMXBean {
+    /** The name the MBean is registered under. */
+    public static final String OBJECT_NAME = "com.smontiel.promise:type=PromiseMetrics";
+
+    static final PromiseMetrics INSTANCE = new PromiseMetrics();
+
+    /** The hooks in place, null while not installed; guarded by the class. */
+    static AssemblyHook assemblyHook;
+
+    static SubscribeHook subscribeHook;
+
+    final LongAdder assembled = new LongAdder();
+
+    final LongAdder subscribed = new LongAdder();
+
+    final LongAdder fulfilled = new LongAdder();
+
+    final LongAdder rejected = new LongAdder();
+
+    final LongAdder disposed = new LongAdder();
+
+    final LongAdder inFlight = new LongAdder();
+
+    final LatencyHistogram settleTime = new LatencyHistogram();
+
+    private PromiseMetrics() {
+    }
+
+    /**
+     * Starts recording, if not yet done, and returns the metrics.
+     * @return the metrics
+     * @throws IllegalStateException if the plugins are in lockdown
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static synchronized PromiseMetrics install() {
+        if (assemblyHook == null) {
+            AssemblyHook a = new AssemblyHook(INSTANCE, (Function)PromisePlugins.getPromiseAssembly());
+            SubscribeHook s = new SubscribeHook(INSTANCE, (BiFunction)PromisePlugins.getOnPromiseSubscribe());
+            PromisePlugins.setOnObservableAssembly(a);
+            PromisePlugins.setOnObservableSubscribe(s);
+            assemblyHook = a;
+            subscribeHook = s;
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Stops recording and puts back the hooks that were set when {@link #install()} was called,
+     * unless they were replaced since. The values recorded so far are kept.
+     */
+    public static synchronized void uninstall() {
+        AssemblyHook a = assemblyHook;
+        if (a == null) {
+            return;
+        }
+        if (PromisePlugins.getPromiseAssembly() == a) {
+            PromisePlugins.setOnObservableAssembly(a.next);
+        }
+        if (PromisePlugins.getOnPromiseSubscribe() == subscribeHook) {
+            PromisePlugins.setOnObservableSubscribe(subscribeHook.next);
+        }
+        assemblyHook = null;
+        subscribeHook = null;
+    }
+
+    /**
+     * Returns the metrics, whether or not they are installed.
+     * @return the metrics
+     */
+    public static PromiseMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics with the platform MBeanServer under {@link #OBJECT_NAME}, if not yet registered.
+     * @return the name the metrics are registered under
+     * @throws JMException if the registration failed
+     */
+    public ObjectName registerMBean() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        synchronized (PromiseMetrics.class) {
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Returns a copy of the values recorded so far.
+     * <p>
+     * The counters are read one after the other while recording goes on, so they are not
+     * necessarily consistent with each other.
+     * @return the new Snapshot instance
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(assembled.sum(), subscribed.sum(), fulfilled.sum(), rejected.sum(),
+                disposed.sum(), inFlight.sum(), settleTime.totalNanos.sum(), settleTime.counts());
+    }
+
+    /**
+     * Sets all the values back to zero. Subscriptions in flight are not tracked anymore by the gauge.
+     */
+    public void reset() {
+        assembled.reset();
+        subscribed.reset();
+        fulfilled.reset();
+        rejected.reset();
+        disposed.reset();
+        inFlight.reset();
+        settleTime.reset();
+    }
+
+    @Override
+    public long getAssembled() {
+        return assembled.sum();
+    }
+
+    @Override
+    public long getSubscribed() {
+        return subscribed.sum();
+    }
+
+    @Override
+    public long getFulfilled() {
+        return fulfilled.sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getDisposed() {
+        return disposed.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getSettleTimeMeanNanos() {
+        return snapshot().getSettleTimeMeanNanos();
+    }
+
+    @Override
+    public long getSettleTimeP50Nanos() {
+        return LatencyHistogram.quantile(settleTime.counts(), 0.5);
+    }
+
+    @Override
+    public long getSettleTimeP99Nanos() {
+        return LatencyHistogram.quantile(settleTime.counts(), 0.99);
+    }
+
+    @Override
+    public long getSettleTimeMaxNanos() {
+        return LatencyHistogram.quantile(settleTime.counts(), 1.0);
+    }
+
+    void settled(LongAdder outcome, long start) {
+        outcome.increment();
+        inFlight.decrement();
+        settleTime.record(System.nanoTime() - start);
+    }
+
+    /**
+     * An immutable copy of the recorded values.
+     */
+    public static final class Snapshot {
+        final long assembled;
+
+        final long subscribed;
+
+        final long fulfilled;
+
+        final long rejected;
+
+        final long disposed;
+
+        final long inFlight;
+
+        final long settleTimeTotalNanos;
+
+        final long[] settleTimeCounts;
+
+        Snapshot(long assembled, long subscribed, long fulfilled, long rejected, long disposed, long inFlight,
+                long settleTimeTotalNanos, long[] settleTimeCounts) {
+            this.assembled = assembled;
+            this.subscribed = subscribed;
+            this.fulfilled = fulfilled;
+            this.rejected = rejected;
+            this.disposed = disposed;
+            this.inFlight = inFlight;
+            this.settleTimeTotalNanos = settleTimeTotalNanos;
+            this.settleTimeCounts = settleTimeCounts;
+        }
+
+        public long getAssembled() {
+            return assembled;
+        }
+
+        public long getSubscribed() {
+            return subscribed;
+        }
+
+        public long getFulfilled() {
+            return fulfilled;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getDisposed() {
+            return disposed;
+        }
+
+        public long getInFlight() {
+            return inFlight;
+        }
+
+        public long getSettleTimeMeanNanos() {
+            long n = 0L;
+            for (long c : settleTimeCounts) {
+                n += c;
+            }
+            return n == 0L ? 0L : settleTimeTotalNanos / n;
+        }
+
+        /**
+         * Returns the upper bound of the settle time below which the given share of the subscriptions settled.
+         * @param quantile the share, between 0 and 1
+         * @return the settle time in nanoseconds, within a factor of two
+         */
+        public long getSettleTimeNanos(double quantile) {
+            if (quantile < 0d || quantile > 1d) {
+                throw new IllegalArgumentException("0 <= quantile <= 1 required but it was " + quantile);
+            }
+            return LatencyHistogram.quantile(settleTimeCounts, quantile);
+        }
+
+        /**
+         * Returns the number of settle times per power-of-two bucket: index {@code 0} counts zero
+         * durations and index {@code i} the durations in {@code [2^(i-1), 2^i)} nanoseconds.
+         * @return a copy of the bucket counts
+         */
+        public long[] getSettleTimeHistogram() {
+            return settleTimeCounts.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "PromiseMetrics.Snapshot{assembled=" + assembled
+                    + ", subscribed=" + subscribed
+                    + ", fulfilled=" + fulfilled
+                    + ", rejected=" + rejected
+                    + ", disposed=" + disposed
+                    + ", inFlight=" + inFlight
+                    + ", settleTimeMeanNanos=" + getSettleTimeMeanNanos()
+                    + ", settleTimeP50Nanos=" + getSettleTimeNanos(0.5)
+                    + ", settleTimeP99Nanos=" + getSettleTimeNanos(0.99)
+                    + "}";
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class AssemblyHook implements Function<Promise, Promise> {
+        final PromiseMetrics metrics;
+
+        final Function<Promise, Promise> next;
+
+        AssemblyHook(PromiseMetrics metrics, Function<Promise, Promise> next) {
+            this.metrics = metrics;
+            this.next = next;
+        }
+
+        @Override
+        public Promise apply(Promise p) {
+            metrics.assembled.increment();
+            return next != null ? next.apply(p) : p;
+        }
+    }
+
+    /**
+     * Whether Observers of a class are the ones operators subscribe to their upstream with, and so
+     * are part of a subscription that is already counted.
+     */
+    static final ClassValue<Boolean> OPERATOR_OBSERVER = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith("com.smontiel.promise.internal.operators.");
+        }
+    };
+
+    @SuppressWarnings("rawtypes")
+    static final class SubscribeHook implements BiFunction<Promise, Observer, Observer> {
+        final PromiseMetrics metrics;
+
+        final BiFunction<Promise, Observer, Observer> next;
+
+        SubscribeHook(PromiseMetrics metrics, BiFunction<Promise, Observer, Observer> next) {
+            this.metrics = metrics;
+            this.next = next;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Observer apply(Promise p, Observer o) {
+            if (next != null) {
+                o = next.apply(p, o);
+            }
+            if (OPERATOR_OBSERVER.get(o.getClass())) {
+                return o;
+            }
+            metrics.subscribed.increment();
+            metrics.inFlight.increment();
+            return new MetricsObserver<Object>(metrics, o);
+        }
+    }
+
+    /**
+     * Records the outcome of one subscription; the flag makes sure only the first of settling
+     * and disposing is counted.
+     */
+    static final class MetricsObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+
+        private static final long serialVersionUID = -4537166217489536014L;
+
+        final PromiseMetrics metrics;
+
+        final Observer<? super T> actual;
+
+        final long start;
+
+        volatile Disposable upstream;
+
+        volatile boolean cancelled;
+
+        MetricsObserver(PromiseMetrics metrics, Observer<? super T> actual) {
+            this.metrics = metrics;
+            this.actual = actual;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            actual.onSubscribe(this);
+            if (cancelled) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onComplete(T t) {
+            if (compareAndSet(false, true)) {
+                metrics.settled(metrics.fulfilled, start);
+            }
+            actual.onComplete(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (compareAndSet(false, true)) {
+                metrics.settled(metrics.rejected, start);
+            }
+            actual.onError(e);
+        }
+
+        @Override
+        public void dispose() {
+            if (compareAndSet(false, true)) {
+                metrics.disposed.increment();
+                metrics.inFlight.decrement();
+            }
+            cancelled = true;
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            if (cancelled) {
+                return true;
+            }
+            Disposable d = upstream;
+            return d != null && d.isDisposed();
+        }
+    }
+}
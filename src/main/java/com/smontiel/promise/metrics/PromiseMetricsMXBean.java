@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.metrics;
+
+/**
+ * The management interface of {@link PromiseMetrics}, registered by {@link PromiseMetrics#registerMBean()}.
+ * <p>
+ * Settle times are read from a histogram of power-of-two buckets, so the percentiles are upper bounds
+ * within a factor of two of the actual values.
+ *
+ * @since 0.3
+ */
+public interface PromiseMetricsMXBean {
+
+    /** @return the number of Promises assembled since the metrics were installed */
+    long getAssembled();
+
+    /** @return the number of subscriptions since the metrics were installed */
+    long getSubscribed();
+
+    /** @return the number of subscriptions that succeeded */
+    long getFulfilled();
+
+    /** @return the number of subscriptions that failed */
+    long getRejected();
+
+    /** @return the number of subscriptions disposed before they settled */
+    long getDisposed();
+
+    /** @return the number of subscriptions that neither settled nor were disposed yet */
+    long getInFlight();
+
+    /** @return the mean time from subscription to settlement, in nanoseconds */
+    long getSettleTimeMeanNanos();
+
+    /** @return the median time from subscription to settlement, in nanoseconds */
+    long getSettleTimeP50Nanos();
+
+    /** @return the 99th percentile of the time from subscription to settlement, in nanoseconds */
+    long getSettleTimeP99Nanos();
+
+    /** @return the longest time from subscription to settlement, in nanoseconds */
+    long getSettleTimeMaxNanos();
+}
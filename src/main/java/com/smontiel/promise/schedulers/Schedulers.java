@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.schedulers;
+
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.internal.ObjectHelper;
+import com.smontiel.promise.internal.schedulers.ComputationPool;
+import com.smontiel.promise.internal.schedulers.EventLoopScheduler;
+import com.smontiel.promise.internal.schedulers.ExecutorScheduler;
+import com.smontiel.promise.internal.schedulers.PromiseThreadFactory;
+import com.smontiel.promise.internal.schedulers.SchedulerPoolFactory;
+import com.smontiel.promise.internal.schedulers.TrampolineScheduler;
+import com.smontiel.promise.internal.schedulers.VirtualThreads;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Static factory methods for returning standard Scheduler instances.
+ * <p>
+ * The standard schedulers are long-lived and shared by every Promise: their threads are
+ * created on demand up to a fixed bound and reused afterwards. The bounds can be tuned
+ * with the following system properties, read once when the scheduler is first used:
+ * <ul>
+ * <li>{@code promise.io.max-threads} (int): maximum number of threads of {@link #io()},
+ * defaults to {@code max(64, 4 * availableProcessors)}</li>
+ * <li>{@code promise.io.keep-alive-seconds} (long): idle time after which an {@link #io()} thread is
+ * retired, defaults to 60</li>
+ * <li>{@code promise.computation.threads} (int): number of threads of {@link #computation()},
+ * defaults to {@code availableProcessors}</li>
+ * <li>{@code promise.eventloop.threads} (int): number of loops of {@link #eventLoop()},
+ * defaults to {@code availableProcessors}</li>
+ * </ul>
+ *
+ * @since 0.3
+ */
+public final class Schedulers {
+
+    /** Utility class. */
+    private Schedulers() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    static final class IoHolder {
+        static final Scheduler DEFAULT = new ExecutorScheduler(SchedulerPoolFactory.create(
+                Integer.getInteger("promise.io.max-threads",
+                        Math.max(64, 4 * Runtime.getRuntime().availableProcessors())),
+                new PromiseThreadFactory("PromiseIoScheduler-"),
+                Long.getLong("promise.io.keep-alive-seconds", 60L)), true);
+    }
+
+    static final class ComputationHolder {
+        // not owned: the pool is shared with parallelMap and parallelReduce
+        static final Scheduler DEFAULT = new ExecutorScheduler(ComputationPool.instance(), false);
+    }
+
+    static final class EventLoopHolder {
+        static final Scheduler DEFAULT = new EventLoopScheduler(
+                Math.max(1, Integer.getInteger("promise.eventloop.threads", Runtime.getRuntime().availableProcessors())),
+                new PromiseThreadFactory("PromiseEventLoop-"));
+    }
+
+    static final class SingleHolder {
+        static final Scheduler DEFAULT = new ExecutorScheduler(SchedulerPoolFactory.create(
+                1, new PromiseThreadFactory("PromiseSingleScheduler-"), 0L), true);
+    }
+
+    static final class VirtualHolder {
+        static final Executor EXECUTOR = VirtualThreads.newThreadPerTaskExecutor("PromiseVirtualScheduler-");
+
+        static final Scheduler DEFAULT = EXECUTOR != null ? new ExecutorScheduler(EXECUTOR, true) : io();
+    }
+
+    /**
+     * Returns a default, shared Scheduler instance intended for IO-bound work.
+     * <p>
+     * This can be used for asynchronous performance of blocking IO. The pool is bounded
+     * (see {@code promise.io.max-threads}); when every thread is busy, tasks wait in the pool's queue.
+     * <p>
+     * This is the default Scheduler of {@link com.smontiel.promise.Promise#fromCallable(java.util.concurrent.Callable)}.
+     * @return a {@link Scheduler} meant for IO-bound work
+     */
+    public static Scheduler io() {
+        return IoHolder.DEFAULT;
+    }
+
+    /**
+     * Returns a default, shared Scheduler instance that runs each task on a new virtual thread.
+     * <p>
+     * A virtual thread blocked in IO or in a lock releases its carrier thread, so this is
+     * the cheapest way to run many concurrent blocking {@link com.smontiel.promise.Promise#fromCallable(java.util.concurrent.Callable)
+     * fromCallable} tasks: each in-flight task costs a small heap-allocated stack instead of a platform thread.
+     * <p>
+     * Virtual threads require Java 21 or newer; on older JVMs this returns {@link #io()}.
+     * @return a {@link Scheduler} running each task on its own virtual thread
+     * @see #isVirtualThreadSupported()
+     */
+    public static Scheduler virtual() {
+        return VirtualHolder.DEFAULT;
+    }
+
+    /**
+     * Returns true if the running JVM supports virtual threads and {@link #virtual()}
+     * does not fall back to {@link #io()}.
+     * @return true if virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualHolder.EXECUTOR != null;
+    }
+
+    /**
+     * Returns a default, shared Scheduler instance intended for computational work.
+     * <p>
+     * This can be used for event-loops, processing callbacks and other computational work.
+     * <p>
+     * It is backed by a work-stealing pool: each thread owns a deque, work scheduled from one of its
+     * threads, such as the continuations of a promise resolved there, is pushed onto that thread's deque
+     * and run next, and idle threads steal from the others instead of all contending on one queue.
+     * The pool is shared with {@link com.smontiel.promise.Promise#parallelMap parallelMap} and
+     * {@link com.smontiel.promise.Promise#parallelReduce parallelReduce}, so {@link Scheduler#shutdown()}
+     * does not stop it.
+     * <p>
+     * It is not recommended to perform blocking, IO-bound work on this scheduler. Use {@link #io()} instead.
+     * @return a {@link Scheduler} meant for computation-bound work
+     */
+    public static Scheduler computation() {
+        return ComputationHolder.DEFAULT;
+    }
+
+    /**
+     * Returns a default, shared Scheduler instance made of a fixed set of event loops, each a single
+     * thread with its own lock-free task queue.
+     * <p>
+     * Each {@link Scheduler.Worker} is pinned to one loop, so everything scheduled through one Worker,
+     * for example the continuations of one connection or session via
+     * {@link com.smontiel.promise.Promise#observeOn(Scheduler) observeOn}, runs in order on the same
+     * thread and needs no locking. Handing a task over costs an atomic swap instead of the lock of a
+     * {@code ThreadPoolExecutor} queue.
+     * <p>
+     * Tasks must not block the loop; use {@link #io()} for blocking work. Delays have a precision of
+     * one tick of the shared timer (10 milliseconds by default).
+     * @return a {@link Scheduler} backed by event loops
+     */
+    public static Scheduler eventLoop() {
+        return EventLoopHolder.DEFAULT;
+    }
+
+    /**
+     * Returns a default, shared, single-thread-backed Scheduler instance for work
+     * requiring strongly-sequential execution on the same background thread.
+     * @return a {@link Scheduler} that shares a single backing thread
+     */
+    public static Scheduler single() {
+        return SingleHolder.DEFAULT;
+    }
+
+    /**
+     * Returns a default, shared Scheduler instance whose {@link Scheduler.Worker}
+     * instances queue work and execute them in a FIFO manner on one of the participating threads.
+     * @return a {@link Scheduler} that queues work on the current thread
+     */
+    public static Scheduler trampoline() {
+        return TrampolineScheduler.instance();
+    }
+
+    /**
+     * Wraps an {@link Executor} into a new Scheduler instance and delegates {@code schedule()}
+     * calls to it.
+     * <p>
+     * The returned Scheduler does not own the Executor: calling {@link Scheduler#shutdown()} on it
+     * leaves the Executor running.
+     * @param executor
+     *          the executor to wrap
+     * @return the new Scheduler wrapping the Executor
+     */
+    public static Scheduler from(Executor executor) {
+        ObjectHelper.requireNonNull(executor, "executor is null");
+        return new ExecutorScheduler(executor, false);
+    }
+}
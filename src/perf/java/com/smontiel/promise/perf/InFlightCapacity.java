@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2016-present, Salvador Montiel.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smontiel.promise.perf;
+
+import com.smontiel.promise.Observer;
+import com.smontiel.promise.Promise;
+import com.smontiel.promise.Scheduler;
+import com.smontiel.promise.disposables.Disposable;
+import com.smontiel.promise.schedulers.Schedulers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how many concurrently blocked {@code fromCallable} promises fit in the JVM's
+ * heap, running them either on virtual threads or one platform thread each.
+ * <p>
+ * Usage: {@code InFlightCapacity <virtual|platform> [maxInFlight] [batchSize]}; run it with a fixed
+ * {@code -Xmx} (the {@code inFlightCapacity} Gradle task uses 256m). Every promise blocks on a shared
+ * latch until the end of the run; promises are started in batches until the target count is reached,
+ * the heap is 90% full or the JVM can't start any more threads.
+ */
+public final class InFlightCapacity {
+
+    private InFlightCapacity() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "virtual";
+        int maxInFlight = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+
+        Scheduler scheduler;
+        if ("virtual".equals(mode)) {
+            if (!Schedulers.isVirtualThreadSupported()) {
+                System.out.println("virtual: not supported on Java " + System.getProperty("java.version"));
+                return;
+            }
+            scheduler = Schedulers.virtual();
+        } else if ("platform".equals(mode)) {
+            scheduler = Schedulers.from(Executors.newCachedThreadPool());
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+
+        Callable<Integer> blocker = new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                started.incrementAndGet();
+                release.await();
+                return 1;
+            }
+        };
+        Observer<Integer> ignore = new Observer<Integer>() {
+            @Override
+            public void onSubscribe(Disposable d) { }
+
+            @Override
+            public void onComplete(Integer value) { }
+
+            @Override
+            public void onError(Throwable e) {
+                failed.incrementAndGet();
+            }
+        };
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long maxHeap = memory.getHeapMemoryUsage().getMax();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        Promise<Integer> promise = Promise.fromCallable(blocker, scheduler);
+        int submitted = 0;
+        String stopReason = "target reached";
+        long used = baseline;
+        long startNanos = System.nanoTime();
+
+        outer:
+        while (submitted < maxInFlight) {
+            try {
+                for (int i = 0; i < batchSize && submitted < maxInFlight; i++) {
+                    promise.subscribe(ignore);
+                    submitted++;
+                }
+            } catch (Throwable ex) {
+                stopReason = ex.toString();
+                break;
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (started.get() + failed.get() < submitted) {
+                if (System.nanoTime() > deadline) {
+                    stopReason = "tasks stopped starting";
+                    break outer;
+                }
+                Thread.sleep(1);
+            }
+            if (failed.get() != 0) {
+                stopReason = failed.get() + " tasks failed";
+                break;
+            }
+
+            System.gc();
+            used = memory.getHeapMemoryUsage().getUsed();
+            if (used > maxHeap * 0.9) {
+                stopReason = "heap 90% full";
+                break;
+            }
+        }
+
+        int inFlight = started.get();
+        long perPromise = inFlight == 0 ? 0 : (used - baseline) / inFlight;
+        System.out.printf("%s: %d in-flight promises in %d ms, heap %d MB of %d MB, ~%d bytes heap per in-flight promise (stopped: %s)%n",
+                mode, inFlight, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                used >> 20, maxHeap >> 20, perPromise, stopReason);
+
+        release.countDown();
+        System.exit(0);
+    }
+}